@@ -0,0 +1,68 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import java.util.List;
+
+/**
+ * Builds synthetic {@link Control} trees for the
+ * benchmarks. Trees are groups of 4x4 leaves tiled
+ * across a 1920x1080 screen, so that every leaf has
+ * its own area to hit.
+ */
+final class BenchmarkTrees {
+	static final int SCREEN_WIDTH = 1920;
+	static final int SCREEN_HEIGHT = 1080;
+
+	private static final int GROUP_SIZE = 80;
+	private static final int GROUP_COLUMNS = SCREEN_WIDTH / GROUP_SIZE;
+	private static final int GROUP_ROWS = SCREEN_HEIGHT / GROUP_SIZE;
+
+	private BenchmarkTrees() {}
+
+	/**
+	 * Builds a tree with the given number of Controls,
+	 * counting the root.
+	 *
+	 * @param count The number of Controls.
+	 * @param leaves A list to collect the leaf Controls in.
+	 * @return The root of the tree.
+	 */
+	static RootPanelControl build(int count, List<Control> leaves) {
+		RootPanelControl root = new RootPanelControl();
+		root.setExpand(true);
+
+		int remaining = count - 1;
+		int groupIndex = 0;
+
+		while (remaining > 0) {
+			PanelControl group = new PanelControl();
+			int column = groupIndex % GROUP_COLUMNS;
+			int row = (groupIndex / GROUP_COLUMNS) % GROUP_ROWS;
+
+			group.setOffset(column * GROUP_SIZE, row * GROUP_SIZE);
+			group.setSize(GROUP_SIZE, GROUP_SIZE);
+			root.addChild(group);
+			remaining -= 1;
+
+			for (int i = 0; i < 16 && remaining > 0; i++) {
+				Control leaf = new Control();
+				leaf.setOffset((i % 4) * 20, (i / 4) * 20);
+				leaf.setSize(18, 18);
+				group.addChild(leaf);
+				leaves.add(leaf);
+				remaining -= 1;
+			}
+
+			groupIndex += 1;
+		}
+
+		return root;
+	}
+
+	/**
+	 * Runs a frame of layout and interaction without
+	 * drawing.
+	 */
+	static void frame(RootPanelControl root, int mouseX, int mouseY) {
+		root.update(mouseX, mouseY, 0.0f, SCREEN_WIDTH, SCREEN_HEIGHT);
+	}
+}
@@ -0,0 +1,58 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures frames where only the mouse moves, which
+ * is dominated by finding the hovered Control.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitTestBenchmark {
+	private static final int POSITIONS = 1024;
+
+	@Param({"10", "100", "1000", "10000"})
+	public int controls;
+
+	private RootPanelControl root;
+	private final int[] mouseX = new int[POSITIONS];
+	private final int[] mouseY = new int[POSITIONS];
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		root = BenchmarkTrees.build(controls, new ArrayList<>());
+		Random random = new Random(0);
+
+		for (int i = 0; i < POSITIONS; i++) {
+			mouseX[i] = random.nextInt(BenchmarkTrees.SCREEN_WIDTH);
+			mouseY[i] = random.nextInt(BenchmarkTrees.SCREEN_HEIGHT);
+		}
+
+		BenchmarkTrees.frame(root, -1, -1);
+	}
+
+	@Benchmark
+	public void moveMouse() {
+		BenchmarkTrees.frame(root, mouseX[next], mouseY[next]);
+		next = (next + 1) % POSITIONS;
+	}
+}
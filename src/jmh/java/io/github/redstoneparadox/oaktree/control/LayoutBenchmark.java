@@ -0,0 +1,62 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures laying out the tree from scratch, laying
+ * out after a single leaf changes and a frame where
+ * nothing changed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+	@Param({"10", "100", "1000", "10000"})
+	public int controls;
+
+	private RootPanelControl root;
+	private final List<Control> leaves = new ArrayList<>();
+	private int nextLeaf = 0;
+
+	@Setup
+	public void setup() {
+		leaves.clear();
+		root = BenchmarkTrees.build(controls, leaves);
+		BenchmarkTrees.frame(root, -1, -1);
+	}
+
+	@Benchmark
+	public void fullLayout() {
+		root.markDirty();
+		BenchmarkTrees.frame(root, -1, -1);
+	}
+
+	@Benchmark
+	public void dirtyLeafLayout() {
+		leaves.get(nextLeaf).markDirty();
+		nextLeaf = (nextLeaf + 1) % leaves.size();
+		BenchmarkTrees.frame(root, -1, -1);
+	}
+
+	@Benchmark
+	public void unchangedFrame() {
+		BenchmarkTrees.frame(root, -1, -1);
+	}
+}
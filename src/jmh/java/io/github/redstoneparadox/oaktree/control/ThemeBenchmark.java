@@ -0,0 +1,55 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.painter.Painter;
+import io.github.redstoneparadox.oaktree.painter.Theme;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving painters directly from a
+ * {@link Theme} and through the cache on
+ * {@link Control}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThemeBenchmark {
+	private static final String[] IDS = {"base", "button", "button", "slider", "item_slot", "text_edit", "missing"};
+	private static final Control.PainterKey[] KEYS = {Control.DEFAULT, ButtonControl.HOVERED, ButtonControl.HELD, SliderControl.SLIDER, SlotControl.DEFAULT, TextEditControl.DEFAULT, Control.DEFAULT};
+
+	private Theme theme;
+	private Control control;
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		theme = Theme.vanilla();
+		control = new Control();
+		control.setId("button");
+	}
+
+	@Benchmark
+	public Painter themeGet() {
+		Painter painter = theme.get(IDS[next], KEYS[next]);
+		next = (next + 1) % IDS.length;
+		return painter;
+	}
+
+	@Benchmark
+	public Painter cachedPainter() {
+		return control.getPainter(theme);
+	}
+}
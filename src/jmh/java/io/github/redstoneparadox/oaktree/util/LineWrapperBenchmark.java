@@ -0,0 +1,65 @@
+package io.github.redstoneparadox.oaktree.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the wrapping engine behind
+ * {@link TextHelper#wrapLines}. Glyph widths come
+ * from a fixed table instead of the text renderer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineWrapperBenchmark {
+	@Param({"100", "1000", "10000"})
+	public int length;
+
+	private LineWrapper wrapper;
+	private String text;
+	private final IntArrayList breaks = new IntArrayList();
+
+	@Setup
+	public void setup() {
+		// Roughly the advances of the vanilla font.
+		wrapper = new LineWrapper(codePoint -> codePoint == ' ' || codePoint == 'i' || codePoint == 'l' ? 2 : 6);
+
+		Random random = new Random(0);
+		StringBuilder builder = new StringBuilder(length);
+
+		while (builder.length() < length) {
+			int word = 1 + random.nextInt(10);
+			for (int i = 0; i < word; i++) builder.append((char) ('a' + random.nextInt(26)));
+			builder.append(random.nextInt(20) == 0 ? '\n' : ' ');
+		}
+		builder.setLength(length);
+
+		text = builder.toString();
+	}
+
+	@Benchmark
+	public int wrapCharacters() {
+		return wrapper.wrap(text, 200, false, breaks);
+	}
+
+	@Benchmark
+	public int wrapWords() {
+		return wrapper.wrap(text, 200, true, breaks);
+	}
+}
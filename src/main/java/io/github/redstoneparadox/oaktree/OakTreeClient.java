@@ -0,0 +1,51 @@
+package io.github.redstoneparadox.oaktree;
+
+import io.github.redstoneparadox.oaktree.painter.Theme;
+import io.github.redstoneparadox.oaktree.util.LineWrapper;
+import io.github.redstoneparadox.oaktree.util.TextMesh;
+import io.github.redstoneparadox.oaktree.util.TooltipCache;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+import org.quiltmc.loader.api.ModContainer;
+import org.quiltmc.qsl.base.api.entrypoint.client.ClientModInitializer;
+import org.quiltmc.qsl.resource.loader.api.ResourceLoader;
+import org.quiltmc.qsl.resource.loader.api.reloader.ResourceReloaderKeys;
+import org.quiltmc.qsl.resource.loader.api.reloader.SimpleSynchronousResourceReloader;
+
+public class OakTreeClient implements ClientModInitializer {
+	private static final Identifier GLYPH_CACHES = new Identifier(OakTree.MODID, "glyph_caches");
+	private static final Identifier CACHES = new Identifier(OakTree.MODID, "caches");
+
+	@Override
+	public void onInitializeClient(ModContainer mod) {
+		ResourceLoader resourceLoader = ResourceLoader.get(ResourceType.CLIENT_RESOURCES);
+
+		// Baked glyphs and glyph widths come from the fonts, so they are dropped once the fonts have reloaded.
+		resourceLoader.registerReloader(reloader(GLYPH_CACHES, () -> {
+			TextMesh.invalidateAll();
+			LineWrapper.getVanilla().clearCache();
+		}));
+		resourceLoader.addReloaderOrdering(ResourceReloaderKeys.Client.FONTS, GLYPH_CACHES);
+
+		// Tooltips depend on the language and atlases on textures.
+		resourceLoader.registerReloader(reloader(CACHES, () -> {
+			TooltipCache.clear();
+			Theme.invalidateAtlases();
+		}));
+	}
+
+	private static SimpleSynchronousResourceReloader reloader(Identifier id, Runnable reload) {
+		return new SimpleSynchronousResourceReloader() {
+			@Override
+			public Identifier getQuiltId() {
+				return id;
+			}
+
+			@Override
+			public void reload(ResourceManager manager) {
+				reload.run();
+			}
+		};
+	}
+}
@@ -14,25 +14,30 @@ public enum Anchor {
 	BOTTOM_RIGHT;
 
 	public Vector2 getOffset(int width, int height) {
-		int x = 0;
-		int y = 0;
+		return new Vector2(getOffsetX(width), getOffsetY(height));
+	}
 
+	public int getOffsetX(int width) {
 		if (this == TOP_CENTER || this == CENTER || this == BOTTOM_CENTER) {
-			x = width/2;
+			return width/2;
 		}
 		else if (this == TOP_RIGHT || this == CENTER_RIGHT || this == BOTTOM_RIGHT) {
-			x = width;
+			return width;
 		}
 
+		return 0;
+	}
+
+	public int getOffsetY(int height) {
 		if (this == CENTER_LEFT || this == CENTER || this == CENTER_RIGHT)
 		{
-			y = height/2;
+			return height/2;
 		}
 		else if (this == BOTTOM_LEFT || this == BOTTOM_CENTER || this == BOTTOM_RIGHT)
 		{
-			y = height;
+			return height;
 		}
 
-		return new Vector2(x, y);
+		return 0;
 	}
 }
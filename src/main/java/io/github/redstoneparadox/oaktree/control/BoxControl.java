@@ -51,6 +51,6 @@ public class BoxControl extends PaddingControl {
 		int innerWidth = trueArea.getWidth() + leftPadding + rightPadding;
 		int innerHeight = trueArea.getHeight() + topPadding + bottomPadding;
 
-		child.updateTree(zIndexedControls, innerX, innerY, innerWidth, innerHeight);
+		child.layout(zIndexedControls, innerX, innerY, innerWidth, innerHeight);
 	}
 }
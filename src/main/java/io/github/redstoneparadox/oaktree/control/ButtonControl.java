@@ -1,6 +1,5 @@
 package io.github.redstoneparadox.oaktree.control;
 
-import io.github.redstoneparadox.oaktree.listeners.ClientListeners;
 import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
 import io.github.redstoneparadox.oaktree.util.Action;
 import io.github.redstoneparadox.oaktree.util.Color;
@@ -29,12 +28,11 @@ public class ButtonControl extends Control implements MouseButtonListener {
 		label.setFontColor(Color.WHITE);
 		label.setAnchor(Anchor.CENTER);
 		label.setParent(this);
-
-		ClientListeners.MOUSE_BUTTON_LISTENERS.add(this);
 	}
 
 	public void setToggleable(boolean toggleable) {
 		this.toggleable = toggleable;
+		markDirty();
 	}
 
 	public boolean isToggleable() {
@@ -68,7 +66,13 @@ public class ButtonControl extends Control implements MouseButtonListener {
 	@Override
 	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
 		super.updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
-		label.updateTree(zIndexedControls, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), trueArea.getHeight());
+		label.layout(zIndexedControls, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), trueArea.getHeight());
+	}
+
+	@Override
+	protected boolean isInteractiveWhileUnhovered() {
+		// Toggled buttons run whileHeld every frame.
+		return toggleable;
 	}
 
 	@Override
@@ -111,24 +115,18 @@ public class ButtonControl extends Control implements MouseButtonListener {
 		}
 
 		if (buttonHeld) {
-			painterKey = HELD;
+			setPainterKey(HELD);
 		}
 		else if (captured) {
-			painterKey = HOVERED;
+			setPainterKey(HOVERED);
 		}
 		else {
-			painterKey = DEFAULT;
+			setPainterKey(DEFAULT);
 		}
 
 		return captured;
 	}
 
-	@Override
-	protected void cleanup() {
-		super.cleanup();
-		ClientListeners.MOUSE_BUTTON_LISTENERS.remove(this);
-	}
-
 	@Override
 	public void onMouseButton(int button, boolean justPressed, boolean released) {
 		if (button == GLFW.GLFW_MOUSE_BUTTON_LEFT) {
@@ -0,0 +1,82 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import com.mojang.blaze3d.glfw.Window;
+import com.mojang.blaze3d.systems.RenderSystem;
+import io.github.redstoneparadox.oaktree.math.Rectangle;
+import io.github.redstoneparadox.oaktree.util.RenderHelper;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps the GL scissor in step with the clip area of
+ * each {@link RootPanelControl.ZIndexedControls.Entry}
+ * as it is drawn, only changing it when the clip area
+ * changes.
+ */
+final class Clipper {
+	private @Nullable Rectangle current = null;
+	// Where the framebuffer being drawn into sits in the window, in framebuffer pixels.
+	private int originX = 0;
+	private int originY = 0;
+
+	/**
+	 * Scissors to the clip area of the given Entry.
+	 *
+	 * @return false if the Entry's Control lies entirely
+	 * outside its clip area and shouldn't be drawn.
+	 */
+	boolean apply(RootPanelControl.ZIndexedControls.Entry entry) {
+		Rectangle clip = entry.clip();
+
+		if (clip != null && !clip.intersects(entry.control().trueArea)) return false;
+
+		if (clip != current) {
+			RenderHelper.flushBatch();
+
+			if (clip == null) RenderSystem.disableScissor();
+			else scissor(clip);
+
+			current = clip;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Sets where the framebuffer being drawn into sits in
+	 * the window, so that clip areas given in window
+	 * coordinates land in the right place. The scissor
+	 * is turned off first.
+	 *
+	 * @param originX The left edge, in framebuffer pixels.
+	 * @param originY The bottom edge, in framebuffer pixels.
+	 */
+	void setOrigin(int originX, int originY) {
+		reset();
+		this.originX = originX;
+		this.originY = originY;
+	}
+
+	/**
+	 * Turns the scissor off.
+	 */
+	void reset() {
+		if (current != null) {
+			RenderHelper.flushBatch();
+			RenderSystem.disableScissor();
+			current = null;
+		}
+	}
+
+	private void scissor(Rectangle clip) {
+		Window window = MinecraftClient.getInstance().getWindow();
+		double scale = window.getScaleFactor();
+		// GL counts framebuffer pixels up from the bottom left.
+		int x = (int) (clip.getX() * scale) - originX;
+		int y = (int) (window.getFramebufferHeight() - (clip.getY() + clip.getHeight()) * scale) - originY;
+		int width = (int) (clip.getWidth() * scale);
+		int height = (int) (clip.getHeight() * scale);
+
+		RenderSystem.enableScissor(x, y, Math.max(0, width), Math.max(0, height));
+	}
+}
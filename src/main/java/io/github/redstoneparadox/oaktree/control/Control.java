@@ -1,13 +1,14 @@
 package io.github.redstoneparadox.oaktree.control;
 
-import com.mojang.blaze3d.glfw.Window;
 import io.github.redstoneparadox.oaktree.math.Rectangle;
 import io.github.redstoneparadox.oaktree.math.Vector2;
+import io.github.redstoneparadox.oaktree.painter.Painter;
 import io.github.redstoneparadox.oaktree.painter.Theme;
 import io.github.redstoneparadox.oaktree.util.Action;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The base class for all controls.
@@ -29,6 +30,22 @@ public class Control {
 	//Internal State
 	protected PainterKey painterKey = DEFAULT;
 	protected Rectangle trueArea = new Rectangle(0, 0, 1, 1);
+	// Whether trueArea is up-to-date.
+	boolean layoutValid = false;
+	// Whether every Control laid out beneath this one is up-to-date.
+	boolean subtreeValid = false;
+	// The container this was last laid out in.
+	int containerX = 0;
+	int containerY = 0;
+	int containerWidth = 0;
+	int containerHeight = 0;
+	// The last Painter resolved for id and painterKey, valid while the Theme version matches.
+	private @NotNull Painter painter = Painter.BLANK;
+	private int painterVersion = -1;
+	private @Nullable String painterId = null;
+	private @Nullable PainterKey resolvedKey = null;
+	// Set while this Control is drawn through an offscreen layer.
+	@Nullable ControlLayer layer = null;
 
 	public void setId(@NotNull String id) {
 		this.id = id;
@@ -147,13 +164,27 @@ public class Control {
 	 */
 	public void setVisible(boolean visible) {
 		this.visible = visible;
-		markDirty();
+
+		// Showing or hiding a Control changes which of its
+		// siblings get laid out, so the parent has to redo
+		// its layout.
+		if (parent != null) parent.markDirty();
+		else markDirty();
 	}
 
 	public boolean isVisible() {
 		return this.visible;
 	}
 
+	/**
+	 * Sets whether this Control is visible without marking
+	 * anything as dirty. Used by parents that decide which
+	 * of their children are shown while laying out.
+	 */
+	void setVisibleDuringLayout(boolean visible) {
+		this.visible = visible;
+	}
+
 	public void setTooltip(Control tooltip) {
 		this.tooltip = tooltip;
 	}
@@ -194,35 +225,72 @@ public class Control {
 		this.onTick = onTick;
 	}
 
+	/**
+	 * Lays out this Control and everything beneath it. Parents
+	 * should call this rather than {@link #updateTree} on their
+	 * children so that the subtree can be found again when only
+	 * part of the tree needs to be laid out.
+	 */
+	protected final void layout(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
+		zIndexedControls.enter();
+		updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
+		zIndexedControls.exit();
+	}
+
 	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
-		zIndexedControls.add(this);
-		Window window = MinecraftClient.getInstance().getWindow();
-		if (tooltip != null && tooltip.visible) {
-			zIndexedControls.addOffset(300);
-			tooltip.updateTree(zIndexedControls, 0, 0, window.getWidth(), window.getHeight());
-			zIndexedControls.addOffset(-300);
-			tooltip.capture = false;
-		}
+		this.containerX = containerX;
+		this.containerY = containerY;
+		this.containerWidth = containerWidth;
+		this.containerHeight = containerHeight;
+		layoutValid = true;
+		subtreeValid = true;
+		if (layer != null) layer.invalidate();
 
 		if (expand && !isTooltip) {
-			trueArea = new Rectangle(containerX, containerY, containerWidth, containerHeight);
+			trueArea.set(containerX, containerY, containerWidth, containerHeight);
 		}
 		else {
-			Vector2 anchorOffset = anchor.getOffset(containerWidth, containerHeight);
-			Vector2 drawOffset = anchor.getOffset(area.getWidth(), area.getHeight());
-
-			trueArea = new Rectangle(
-					area.getX() + anchorOffset.getX() + containerX - drawOffset.getX(),
-					area.getY() + anchorOffset.getY() + containerY - drawOffset.getY(),
+			trueArea.set(
+					area.getX() + anchor.getOffsetX(containerWidth) + containerX - anchor.getOffsetX(area.getWidth()),
+					area.getY() + anchor.getOffsetY(containerHeight) + containerY - anchor.getOffsetY(area.getHeight()),
 					area.getWidth(),
 					area.getHeight()
 			);
 		}
+
+		// Added once trueArea is known so clipping Controls can work out their viewport.
+		// Tooltips are laid out separately by the RootPanelControl while they are shown.
+		zIndexedControls.add(this);
+	}
+
+	/**
+	 * Called after a {@link ScrollPanelControl} above this
+	 * Control moved it by scrolling, which shifts
+	 * {@link #trueArea} without laying it out again.
+	 *
+	 * @param clip The area this Control is clipped to, or
+	 *             null if it isn't clipped.
+	 */
+	protected void onScrolled(@Nullable Rectangle clip) {}
+
+	/**
+	 * Whether this Control needs {@link #interact} to be called
+	 * every frame even while the mouse isn't over it. Other
+	 * Controls are only interacted with while hovered and once
+	 * more when the mouse leaves them.
+	 *
+	 * @return true if this should always be interacted with.
+	 */
+	protected boolean isInteractiveWhileUnhovered() {
+		return false;
 	}
 
 	// Capture the mouse and
 	protected boolean interact(int mouseX, int mouseY, float deltaTime, boolean captured) {
-		if (captured || !capture) return false;
+		if (captured || !capture) {
+			if (tooltip != null) tooltip.visible = false;
+			return false;
+		}
 
 		int x = trueArea.getX();
 		int y = trueArea.getY();
@@ -231,17 +299,36 @@ public class Control {
 
 		captured = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
 
-		if (captured && tooltip != null) {
-			tooltip.visible = true;
-			tooltip.setOffset(mouseX + 8, mouseY - 16);
-			markDirty();
-		} else if (tooltip != null){
-			tooltip.visible = false;
-		}
+		if (tooltip != null) tooltip.visible = captured;
 
 		return captured;
 	}
 
+	/**
+	 * Offered input on its way to a Control beneath this
+	 * one, before that Control sees it.
+	 *
+	 * @param event The event.
+	 * @return true to stop the event here.
+	 */
+	protected boolean captureInput(InputEvent event) {
+		return false;
+	}
+
+	/**
+	 * Handles input targeted at this Control or bubbling up
+	 * from a Control beneath it. By default the event is
+	 * passed to whichever listener interfaces this Control
+	 * implements and keeps bubbling.
+	 *
+	 * @param event The event.
+	 * @return true to stop the event from bubbling further.
+	 */
+	protected boolean handleInput(InputEvent event) {
+		event.deliverTo(this);
+		return false;
+	}
+
 	// Update current
 	protected void prepare() {
 		onTick.run();
@@ -249,11 +336,31 @@ public class Control {
 
 	// Draw
 	protected void draw(MatrixStack matrices, Theme theme) {
-		theme.get(id, painterKey).draw(matrices, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), trueArea.getHeight());
+		getPainter(theme).draw(matrices, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), trueArea.getHeight());
+	}
+
+	/**
+	 * Gets the {@link Painter} for this Control's id and
+	 * current {@link PainterKey}, only looking it up in the
+	 * {@link Theme} when the Theme, id or key has changed.
+	 *
+	 * @param theme The current Theme.
+	 * @return The Painter.
+	 */
+	protected @NotNull Painter getPainter(Theme theme) {
+		if (painterVersion != theme.getVersion() || painterId != id || resolvedKey != painterKey) {
+			painter = theme.get(id, painterKey);
+			painterVersion = theme.getVersion();
+			painterId = id;
+			resolvedKey = painterKey;
+		}
+
+		return painter;
 	}
 
 	protected void cleanup() {
 		if (tooltip != null) tooltip.cleanup();
+		if (layer != null) layer.close();
 	}
 
 	protected void setParent(Control parent) {
@@ -264,11 +371,58 @@ public class Control {
 		return parent;
 	}
 
+	/**
+	 * Marks this Control as needing to be laid out again. Only
+	 * this Control and the Controls beneath it will be laid
+	 * out on the next frame.
+	 */
 	protected void markDirty() {
-		if (parent != null) parent.markDirty();
+		layoutValid = false;
+		invalidateSubtree();
+	}
+
+	void invalidateSubtree() {
+		subtreeValid = false;
+		if (layer != null) layer.invalidate();
+		if (parent != null) parent.invalidateSubtree();
+	}
+
+	/**
+	 * Sets the {@link PainterKey} used to draw this
+	 * Control, redrawing any layer it is in if the key
+	 * changed.
+	 *
+	 * @param painterKey The new key.
+	 */
+	protected void setPainterKey(PainterKey painterKey) {
+		if (this.painterKey == painterKey) return;
+
+		this.painterKey = painterKey;
+		repaint();
+	}
+
+	/**
+	 * Marks any layer this Control is drawn in as out of
+	 * date without laying anything out again. Call this
+	 * when something changes how a Control looks but
+	 * not where it is.
+	 */
+	protected void repaint() {
+		for (Control control = this; control != null; control = control.parent) {
+			if (control.layer != null) control.layer.invalidate();
+		}
 	}
 
 	public static class PainterKey {
+		private static int nextIndex = 0;
+
+		private final int index = nextIndex++;
+
 		protected PainterKey() {}
+
+		@ApiStatus.Internal
+		public int getIndex() {
+			return index;
+		}
 	}
 }
@@ -0,0 +1,135 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import com.mojang.blaze3d.framebuffer.SimpleFramebuffer;
+import com.mojang.blaze3d.glfw.Window;
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferRenderer;
+import com.mojang.blaze3d.vertex.Tessellator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexFormats;
+import io.github.redstoneparadox.oaktree.math.Rectangle;
+import io.github.redstoneparadox.oaktree.painter.Theme;
+import io.github.redstoneparadox.oaktree.util.RenderHelper;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An offscreen copy of everything a layered
+ * {@link PaddingControl} and its children draw within
+ * its area. The subtree is only drawn again once
+ * something in it changes or it moves; otherwise the
+ * copy is drawn as a single quad.
+ */
+class ControlLayer {
+	private @Nullable SimpleFramebuffer framebuffer = null;
+	private boolean valid = false;
+	// Where the layer sits in the window, in framebuffer pixels from the bottom left.
+	private int left = 0;
+	private int bottom = 0;
+
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Draws the layer, first drawing the given range of
+	 * zIndexedControls into it if it is out of date.
+	 * Entries are clipped and culled through the given
+	 * {@link Clipper}.
+	 */
+	void draw(MatrixStack matrices, Theme theme, RootPanelControl.ZIndexedControls zIndexedControls, int start, int end, int zOffset, Clipper clipper) {
+		MinecraftClient client = MinecraftClient.getInstance();
+		Window window = client.getWindow();
+		Rectangle area = zIndexedControls.get(start).control().trueArea;
+		double scale = window.getScaleFactor();
+		// The layer only covers the layered Control, however large the window is.
+		int left = (int) Math.floor(area.getX() * scale);
+		int bottom = (int) Math.floor(window.getFramebufferHeight() - (area.getY() + area.getHeight()) * scale);
+		int width = Math.max(1, (int) Math.ceil(area.getWidth() * scale));
+		int height = Math.max(1, (int) Math.ceil(area.getHeight() * scale));
+
+		if (framebuffer == null) {
+			framebuffer = new SimpleFramebuffer(width, height, true, MinecraftClient.IS_SYSTEM_MAC);
+			valid = false;
+		}
+		else if (framebuffer.textureWidth != width || framebuffer.textureHeight != height) {
+			framebuffer.resize(width, height, MinecraftClient.IS_SYSTEM_MAC);
+			valid = false;
+		}
+
+		if (left != this.left || bottom != this.bottom) {
+			this.left = left;
+			this.bottom = bottom;
+			valid = false;
+		}
+
+		RenderHelper.flushBatch();
+
+		if (!valid) {
+			// Clearing is scissored too, so the whole layer has to be unclipped first.
+			clipper.reset();
+			framebuffer.setClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+			framebuffer.clear(MinecraftClient.IS_SYSTEM_MAC);
+			framebuffer.beginWrite(false);
+			// Drawn as if into the whole window, so only the layered Control's part lands in the layer.
+			RenderSystem.viewport(-left, -bottom, window.getFramebufferWidth(), window.getFramebufferHeight());
+			clipper.setOrigin(left, bottom);
+			// The default blend replaces the layer's alpha, letting translucent quads punch holes in what is beneath them.
+			RenderHelper.setAccumulateAlpha(true);
+
+			for (int i = start; i < end; i++) {
+				RootPanelControl.ZIndexedControls.Entry entry = zIndexedControls.get(i);
+				if (!clipper.apply(entry)) continue;
+
+				RenderHelper.setzOffset(entry.zOffset());
+				entry.control().draw(matrices, theme);
+			}
+
+			RenderHelper.setAccumulateAlpha(false);
+			clipper.setOrigin(0, 0);
+			RenderHelper.setzOffset(zOffset);
+			client.getFramebuffer().beginWrite(true);
+			valid = true;
+		}
+
+		clipper.apply(zIndexedControls.get(start));
+
+		blit(area, (float) (area.getWidth() * scale / width), (float) (area.getHeight() * scale / height), zOffset);
+	}
+
+	void close() {
+		if (framebuffer != null) framebuffer.delete();
+		framebuffer = null;
+		valid = false;
+	}
+
+	private void blit(Rectangle area, float u, float v, float z) {
+		int x1 = area.getX();
+		int y1 = area.getY();
+		int x2 = x1 + area.getWidth();
+		int y2 = y1 + area.getHeight();
+
+		RenderSystem.enableBlend();
+		// The layer was drawn over transparent black, so its colors are already multiplied by alpha.
+		RenderSystem.blendFunc(GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
+		RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
+		RenderSystem.setShader(GameRenderer::getPositionTexShader);
+		RenderSystem.setShaderTexture(0, framebuffer.getColorAttachment());
+
+		// The framebuffer's rows start at the bottom.
+		BufferBuilder buffer = Tessellator.getInstance().getBufferBuilder();
+		buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
+		buffer.vertex(x1, y2, z).uv(0, 0).next();
+		buffer.vertex(x2, y2, z).uv(u, 0).next();
+		buffer.vertex(x2, y1, z).uv(u, v).next();
+		buffer.vertex(x1, y1, z).uv(0, v).next();
+		BufferRenderer.drawWithShader(buffer.end());
+
+		RenderSystem.defaultBlendFunc();
+		RenderSystem.disableBlend();
+	}
+}
@@ -1,6 +1,5 @@
 package io.github.redstoneparadox.oaktree.control;
 
-import io.github.redstoneparadox.oaktree.listeners.ClientListeners;
 import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
 import io.github.redstoneparadox.oaktree.math.Direction2D;
 import org.jetbrains.annotations.NotNull;
@@ -12,12 +11,11 @@ public class DropdownControl extends Control implements MouseButtonListener {
 
 	// Internal state
 	boolean dropdownVisible = false;
+	boolean hovered = false;
 
 	public DropdownControl() {
 		this.dropdown.setVisible(false);
 		this.id = "dropdown";
-
-		ClientListeners.MOUSE_BUTTON_LISTENERS.add(this);
 	}
 
 	public void setDropdown(@NotNull Control dropdown) {
@@ -53,12 +51,13 @@ public class DropdownControl extends Control implements MouseButtonListener {
 
 		dropdown.expand = false;
 
-		dropdown.updateTree(zIndexedControls, dropdownX, dropdownY, 999999, 999999);
+		dropdown.layout(zIndexedControls, dropdownX, dropdownY, 999999, 999999);
 	}
 
 	@Override
 	protected boolean interact(int mouseX, int mouseY, float deltaTime, boolean captured) {
 		captured = super.interact(mouseX, mouseY, deltaTime, captured);
+		hovered = captured;
 
 		if (captured && dropdownVisible != dropdown.visible) {
 			dropdown.visible = dropdownVisible;
@@ -69,15 +68,9 @@ public class DropdownControl extends Control implements MouseButtonListener {
 		return captured;
 	}
 
-	@Override
-	protected void cleanup() {
-		super.cleanup();
-		ClientListeners.MOUSE_BUTTON_LISTENERS.remove(this);
-	}
-
 	@Override
 	public void onMouseButton(int button, boolean justPressed, boolean released) {
-		if (button == GLFW.GLFW_MOUSE_BUTTON_LEFT && justPressed) {
+		if (button == GLFW.GLFW_MOUSE_BUTTON_LEFT && justPressed && hovered) {
 			dropdownVisible = !dropdownVisible;
 		}
 	}
@@ -1,6 +1,7 @@
 package io.github.redstoneparadox.oaktree.control;
 
 import io.github.redstoneparadox.oaktree.painter.Theme;
+import io.github.redstoneparadox.oaktree.util.RenderHelper;
 import net.minecraft.client.gui.screen.ingame.InventoryScreen;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.LivingEntity;
@@ -44,6 +45,12 @@ public class EntityPreviewControl extends Control {
 	 */
 	public void setFollowCursor(boolean flag) {
 		this.followCursor = flag;
+		markDirty();
+	}
+
+	@Override
+	protected boolean isInteractiveWhileUnhovered() {
+		return followCursor;
 	}
 
 	@Override
@@ -61,6 +68,7 @@ public class EntityPreviewControl extends Control {
 	@Override
 	protected void draw(MatrixStack matrices, Theme theme) {
 		super.draw(matrices, theme);
+		RenderHelper.flushBatch();
 		InventoryScreen.drawEntity(this.trueArea.getX(), this.trueArea.getY(), this.entitySize,
 				followCursor ? mouseX : 0, followCursor ? mouseY : 0, this.entity);
 	}
@@ -3,15 +3,33 @@ package io.github.redstoneparadox.oaktree.control;
 import io.github.redstoneparadox.oaktree.math.Rectangle;
 import io.github.redstoneparadox.oaktree.util.ListUtils;
 import io.github.redstoneparadox.oaktree.util.TriFunction;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
 /**
  * Subclass of {@link PanelControl} that lays out its children in
  * a grid pattern.
+ *
+ * <p>Alternatively, a grid can be given an item count and
+ * a cell factory with {@link #setItems}, in which case
+ * only enough cells to fill the visible rows exist and
+ * they are bound to different items as the grid
+ * scrolls.</p>
  */
 public class GridPanelControl extends PanelControl {
 	protected int rows = 1;
 	protected int columns = 1;
+	protected int startRow = 0;
+
+	private int itemCount = 0;
+	private @Nullable Supplier<? extends Control> cellFactory = null;
+	private @Nullable BiConsumer<Control, Integer> cellBinder = null;
+	// The item each cell is currently bound to, or -1.
+	private int[] boundItems = new int[0];
 
 	public GridPanelControl() {
 		this.id = "grid_panel";
@@ -104,8 +122,141 @@ public class GridPanelControl extends PanelControl {
 		markDirty();
 	}
 
+	/**
+	 * <p>Switches this grid to displaying items from a data
+	 * source, filled in row by row. Cells are created by
+	 * the factory for the visible rows plus one spare row
+	 * and are passed to the binder along with the index of
+	 * the item they should now show whenever that item
+	 * changes.</p>
+	 *
+	 * <p>Any existing children are removed, and children
+	 * should not be added directly afterwards.</p>
+	 *
+	 * @param itemCount The number of items.
+	 * @param cellFactory Creates a new cell.
+	 * @param cellBinder Updates a cell to show an item.
+	 * @param <T> The type of the cells.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Control> void setItems(int itemCount, @NotNull Supplier<T> cellFactory, @NotNull BiConsumer<T, Integer> cellBinder) {
+		children.forEach(Control::cleanup);
+		children.clear();
+
+		this.cellFactory = cellFactory;
+		this.cellBinder = (BiConsumer<Control, Integer>) cellBinder;
+		this.boundItems = new int[0];
+		setItemCount(itemCount);
+	}
+
+	/**
+	 * Sets the number of items when displaying items from
+	 * a data source. Every displayed cell is bound again,
+	 * so this should also be called when items change.
+	 *
+	 * @param itemCount The number of items.
+	 */
+	public void setItemCount(int itemCount) {
+		this.itemCount = Math.max(0, itemCount);
+		Arrays.fill(boundItems, -1);
+		setStartRow(startRow);
+	}
+
+	public int getItemCount() {
+		return isVirtual() ? itemCount : children.size();
+	}
+
+	public boolean isVirtual() {
+		return cellFactory != null;
+	}
+
+	/**
+	 * Sets the first row of items to display when
+	 * displaying items from a data source.
+	 *
+	 * @param startRow The row.
+	 */
+	public void setStartRow(int startRow) {
+		int totalRows = (itemCount + columns - 1) / columns;
+
+		this.startRow = Math.max(0, Math.min(startRow, totalRows - rows));
+		markDirty();
+	}
+
+	public int getStartRow() {
+		return startRow;
+	}
+
+	/**
+	 * Scrolls the grid by a number of rows.
+	 *
+	 * @param amount The number of rows to scroll by.
+	 */
+	public void scrollBy(int amount) {
+		setStartRow(startRow + amount);
+	}
+
+	@Override
+	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
+		if (isVirtual()) bindCells();
+
+		super.updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
+	}
+
+	/**
+	 * Makes sure there are enough cells and binds them to
+	 * the items from the start row on. Item i is always
+	 * shown by cell i % cellCount, so scrolling only binds
+	 * the items that came into view.
+	 */
+	private void bindCells() {
+		int cellCount = (rows + 1) * columns;
+
+		if (children.size() != cellCount) {
+			while (children.size() > cellCount) {
+				children.remove(children.size() - 1).cleanup();
+			}
+			while (children.size() < cellCount) {
+				Control cell = cellFactory.get();
+				cell.setParent(this);
+				children.add(cell);
+			}
+
+			boundItems = new int[cellCount];
+			Arrays.fill(boundItems, -1);
+		}
+
+		int start = startRow * columns;
+		int end = Math.min(start + cellCount, itemCount);
+		int visibleEnd = Math.min(start + rows * columns, itemCount);
+
+		for (int item = start; item < end; item++) {
+			int cell = item % cellCount;
+
+			if (boundItems[cell] != item) {
+				cellBinder.accept(children.get(cell), item);
+				boundItems[cell] = item;
+			}
+		}
+
+		for (int cell = 0; cell < cellCount; cell++) {
+			int item = boundItems[cell];
+			children.get(cell).setVisibleDuringLayout(item >= start && item < visibleEnd);
+		}
+	}
+
 	@Override
 	protected Rectangle getChildArea(int index) {
+		if (isVirtual()) {
+			int item = index < boundItems.length ? boundItems[index] : -1;
+			index = item - startRow * columns;
+
+			if (item < 0 || index < 0 || index >= rows * columns) {
+				childArea.set(0, 0, 1, 1);
+				return childArea;
+			}
+		}
+
 		int y = index/columns;
 		int x = index%columns;
 
@@ -117,7 +268,8 @@ public class GridPanelControl extends PanelControl {
 		int cellWidth = divisionWidth - leftPadding - rightPadding;
 		int cellHeight = divisionHeight - topPadding - bottomPadding;
 
-		return new Rectangle(cellX, cellY, cellWidth, cellHeight);
+		childArea.set(cellX, cellY, cellWidth, cellHeight);
+		return childArea;
 	}
 
 	class GridCellOutOfBoundsException extends IndexOutOfBoundsException {
@@ -0,0 +1,120 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.math.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid over the screen that buckets laid out
+ * {@link Control} instances by the cells their area
+ * overlaps, so that the topmost Control under the mouse
+ * can be found without checking every Control.
+ */
+class HitGrid {
+	private static final int CELL_SIZE = 16;
+
+	private int columns = 0;
+	private int rows = 0;
+	private int[][] cells = new int[0][];
+	private int[] counts = new int[0];
+
+	/**
+	 * Rebuilds the grid from the current z-ordered
+	 * Controls. Cells store indices into
+	 * zIndexedControls in ascending z-order.
+	 */
+	void rebuild(RootPanelControl.ZIndexedControls zIndexedControls, int width, int height, Control exclude) {
+		columns = Math.max(1, (width + CELL_SIZE - 1) / CELL_SIZE);
+		rows = Math.max(1, (height + CELL_SIZE - 1) / CELL_SIZE);
+
+		int cellCount = columns * rows;
+
+		if (cells.length < cellCount) {
+			cells = Arrays.copyOf(cells, cellCount);
+			counts = Arrays.copyOf(counts, cellCount);
+		}
+		Arrays.fill(counts, 0, cellCount, 0);
+
+		for (int i = 0; i < zIndexedControls.size(); i++) {
+			RootPanelControl.ZIndexedControls.Entry entry = zIndexedControls.get(i);
+			Control control = entry.control();
+			if (control == exclude || control.isTooltip) continue;
+
+			Rectangle area = control.trueArea;
+			Rectangle clip = entry.clip();
+			// Bounds are inclusive to match Control#interact.
+			int left = area.getX();
+			int top = area.getY();
+			int right = area.getX() + area.getWidth();
+			int bottom = area.getY() + area.getHeight();
+
+			// Only the visible part of a clipped Control can be hit.
+			if (clip != null) {
+				if (!clip.intersects(area)) continue;
+
+				left = Math.max(left, clip.getX());
+				top = Math.max(top, clip.getY());
+				right = Math.min(right, clip.getX() + clip.getWidth());
+				bottom = Math.min(bottom, clip.getY() + clip.getHeight());
+			}
+
+			int minColumn = Math.max(0, Math.floorDiv(left, CELL_SIZE));
+			int minRow = Math.max(0, Math.floorDiv(top, CELL_SIZE));
+			int maxColumn = Math.min(columns - 1, Math.floorDiv(right, CELL_SIZE));
+			int maxRow = Math.min(rows - 1, Math.floorDiv(bottom, CELL_SIZE));
+
+			for (int row = minRow; row <= maxRow; row++) {
+				for (int column = minColumn; column <= maxColumn; column++) {
+					add(row * columns + column, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the topmost Control that captures the
+	 * mouse at the given position.
+	 *
+	 * @return The index of the Control in
+	 * zIndexedControls or -1 if there is none.
+	 */
+	int find(RootPanelControl.ZIndexedControls zIndexedControls, int mouseX, int mouseY) {
+		if (mouseX < 0 || mouseY < 0) return -1;
+
+		int column = mouseX / CELL_SIZE;
+		int row = mouseY / CELL_SIZE;
+
+		if (column >= columns || row >= rows) return -1;
+
+		int cell = row * columns + column;
+		int[] indices = cells[cell];
+
+		for (int i = counts[cell] - 1; i >= 0; i--) {
+			int index = indices[i];
+			RootPanelControl.ZIndexedControls.Entry entry = zIndexedControls.get(index);
+			Control control = entry.control();
+			Rectangle clip = entry.clip();
+
+			if (clip != null && !clip.isPointWithin(mouseX, mouseY)) continue;
+			if (control.capture && control.trueArea.isPointWithin(mouseX, mouseY)) return index;
+		}
+
+		return -1;
+	}
+
+	private void add(int cell, int index) {
+		int[] indices = cells[cell];
+
+		if (indices == null) {
+			indices = new int[4];
+			cells[cell] = indices;
+		}
+		else if (counts[cell] == indices.length) {
+			indices = Arrays.copyOf(indices, indices.length * 2);
+			cells[cell] = indices;
+		}
+
+		indices[counts[cell]] = index;
+		counts[cell] += 1;
+	}
+}
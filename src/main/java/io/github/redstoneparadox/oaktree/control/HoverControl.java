@@ -33,14 +33,14 @@ public class HoverControl extends Control {
 		captured = super.interact(mouseX, mouseY, deltaTime, captured);
 
 		if (captured) {
-			painterKey = HOVERED;
+			setPainterKey(HOVERED);
 			if (!mouseCurrentlyWithin) {
 				onMouseEnter.run();
 				mouseCurrentlyWithin = true;
 			}
 			whileHovered.run();
 		} else {
-			painterKey = DEFAULT;
+			setPainterKey(DEFAULT);
 			if (mouseCurrentlyWithin) {
 				mouseExit.run();
 				mouseCurrentlyWithin = false;
@@ -0,0 +1,111 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.listeners.CharTypedListener;
+import io.github.redstoneparadox.oaktree.listeners.KeyListener;
+import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
+import io.github.redstoneparadox.oaktree.listeners.MouseScrollListener;
+
+/**
+ * <p>A single mouse or keyboard event being routed
+ * through a {@link Control} tree by its
+ * {@link RootPanelControl}.</p>
+ *
+ * <p>Mouse events target the Control under the mouse
+ * and keyboard events target the focused Control. The
+ * event is first offered to every ancestor of the target
+ * from the root down through {@link Control#captureInput},
+ * then to the target and back up through
+ * {@link Control#handleInput}, until one of them returns
+ * true.</p>
+ *
+ * <p>Events are reused, so they are only valid while
+ * they are being handled.</p>
+ */
+public final class InputEvent {
+	Type type = Type.KEY;
+	int button = 0;
+	boolean justPressed = false;
+	boolean released = false;
+	double horizontal = 0;
+	double vertical = 0;
+	char character = 0;
+	int key = 0;
+	int scanCode = 0;
+	int action = 0;
+	int modifiers = 0;
+
+	InputEvent() {}
+
+	public Type getType() {
+		return type;
+	}
+
+	public int getButton() {
+		return button;
+	}
+
+	public boolean isJustPressed() {
+		return justPressed;
+	}
+
+	public boolean isReleased() {
+		return released;
+	}
+
+	public double getHorizontal() {
+		return horizontal;
+	}
+
+	public double getVertical() {
+		return vertical;
+	}
+
+	public char getCharacter() {
+		return character;
+	}
+
+	public int getKey() {
+		return key;
+	}
+
+	public int getScanCode() {
+		return scanCode;
+	}
+
+	public int getAction() {
+		return action;
+	}
+
+	public int getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Passes this event to whichever of the listener
+	 * interfaces in {@link io.github.redstoneparadox.oaktree.listeners}
+	 * the given Control implements.
+	 */
+	void deliverTo(Control control) {
+		switch (type) {
+			case MOUSE_BUTTON -> {
+				if (control instanceof MouseButtonListener listener) listener.onMouseButton(button, justPressed, released);
+			}
+			case MOUSE_SCROLL -> {
+				if (control instanceof MouseScrollListener listener) listener.onMouseScroll(horizontal, vertical);
+			}
+			case CHAR_TYPED -> {
+				if (control instanceof CharTypedListener listener) listener.onCharTyped(character);
+			}
+			case KEY -> {
+				if (control instanceof KeyListener listener) listener.onKey(key, scanCode, action, modifiers);
+			}
+		}
+	}
+
+	public enum Type {
+		MOUSE_BUTTON,
+		MOUSE_SCROLL,
+		CHAR_TYPED,
+		KEY
+	}
+}
@@ -0,0 +1,196 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.listeners.CharTypedListener;
+import io.github.redstoneparadox.oaktree.listeners.KeyListener;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Delivers mouse and keyboard input to the
+ * {@link Control} tree of the {@link RootPanelControl}
+ * that was rendered most recently. Only the Controls
+ * between the targeted Control and the root see an
+ * event, as described in {@link InputEvent}.</p>
+ *
+ * <p>Pressing a mouse button focuses the closest
+ * Control to the target that listens for keys or
+ * characters. Whatever was focused before is told
+ * about the press as well so that it can give up focus,
+ * and every Control that saw a press is sent that
+ * button's release even if the mouse has moved off it.</p>
+ */
+@ApiStatus.Internal
+public final class InputRouter {
+	// Weak so that a root that was never closed isn't kept alive by input.
+	private static WeakReference<InputRouter> active = new WeakReference<>(null);
+
+	private final RootPanelControl root;
+	private final InputEvent event = new InputEvent();
+	// The target first and the root last.
+	private final List<Control> path = new ArrayList<>();
+	// The Controls that saw each button's last press.
+	private final List<List<Control>> pressed = new ArrayList<>();
+	private @Nullable Control hovered = null;
+	private @Nullable Control focused = null;
+
+	InputRouter(RootPanelControl root) {
+		this.root = root;
+
+		for (int i = 0; i <= GLFW.GLFW_MOUSE_BUTTON_LAST; i++) {
+			pressed.add(new ArrayList<>());
+		}
+	}
+
+	public static void routeMouseButton(int button, boolean justPressed, boolean released) {
+		InputRouter router = active.get();
+		if (router != null) router.mouseButton(button, justPressed, released);
+	}
+
+	public static void routeMouseScroll(double horizontal, double vertical) {
+		InputRouter router = active.get();
+		if (router == null) return;
+
+		InputEvent event = router.event;
+		event.type = InputEvent.Type.MOUSE_SCROLL;
+		event.horizontal = horizontal;
+		event.vertical = vertical;
+		router.dispatch(router.hovered, null);
+	}
+
+	public static void routeCharTyped(char character) {
+		InputRouter router = active.get();
+		if (router == null) return;
+
+		InputEvent event = router.event;
+		event.type = InputEvent.Type.CHAR_TYPED;
+		event.character = character;
+		router.dispatch(router.focused, null);
+	}
+
+	public static void routeKey(int key, int scanCode, int action, int modifiers) {
+		InputRouter router = active.get();
+		if (router == null) return;
+
+		InputEvent event = router.event;
+		event.type = InputEvent.Type.KEY;
+		event.key = key;
+		event.scanCode = scanCode;
+		event.action = action;
+		event.modifiers = modifiers;
+		router.dispatch(router.focused, null);
+	}
+
+	void activate() {
+		if (active.get() != this) active = new WeakReference<>(this);
+	}
+
+	void deactivate() {
+		if (active.get() == this) active = new WeakReference<>(null);
+
+		for (List<Control> controls: pressed) {
+			controls.clear();
+		}
+		path.clear();
+		hovered = null;
+		focused = null;
+	}
+
+	void setHovered(@Nullable Control hovered) {
+		this.hovered = hovered;
+	}
+
+	@Nullable Control getFocused() {
+		return focused;
+	}
+
+	private void mouseButton(int button, boolean justPressed, boolean released) {
+		event.type = InputEvent.Type.MOUSE_BUTTON;
+		event.button = button;
+		event.justPressed = justPressed;
+		event.released = released;
+
+		if (button < 0 || button >= pressed.size()) {
+			dispatch(hovered, null);
+			return;
+		}
+
+		List<Control> recipients = pressed.get(button);
+
+		if (justPressed) {
+			recipients.clear();
+			buildPath(hovered);
+
+			Control oldFocus = focused;
+			focused = null;
+
+			for (int i = 0; i < path.size() - 1; i++) {
+				Control control = path.get(i);
+
+				if (control instanceof KeyListener || control instanceof CharTypedListener) {
+					focused = control;
+					break;
+				}
+			}
+
+			if (oldFocus != null && !path.contains(oldFocus)) {
+				oldFocus.handleInput(event);
+				recipients.add(oldFocus);
+			}
+
+			deliver(recipients);
+		}
+		else if (!recipients.isEmpty()) {
+			for (int i = 0; i < recipients.size(); i++) {
+				recipients.get(i).handleInput(event);
+			}
+
+			if (released) recipients.clear();
+		}
+		else {
+			dispatch(hovered, null);
+		}
+	}
+
+	private void dispatch(@Nullable Control target, @Nullable List<Control> recipients) {
+		buildPath(target);
+		deliver(recipients);
+	}
+
+	/**
+	 * Sends the event down the path and back up again,
+	 * noting every Control that saw it in recipients.
+	 */
+	private void deliver(@Nullable List<Control> recipients) {
+		for (int i = path.size() - 1; i > 0; i--) {
+			Control control = path.get(i);
+
+			if (control.captureInput(event)) {
+				if (recipients != null) recipients.add(control);
+				return;
+			}
+		}
+
+		for (int i = 0; i < path.size(); i++) {
+			Control control = path.get(i);
+
+			if (recipients != null) recipients.add(control);
+			if (control.handleInput(event)) return;
+		}
+	}
+
+	private void buildPath(@Nullable Control target) {
+		path.clear();
+
+		for (Control control = target; control != null; control = control.getParent()) {
+			path.add(control);
+		}
+
+		// Some Controls hold children without being their parent, so make sure the root is reached.
+		if (path.isEmpty() || path.get(path.size() - 1) != root) path.add(root);
+	}
+}
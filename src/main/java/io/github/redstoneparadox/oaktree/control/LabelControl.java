@@ -4,12 +4,15 @@ import io.github.redstoneparadox.oaktree.painter.Theme;
 import io.github.redstoneparadox.oaktree.util.Color;
 import io.github.redstoneparadox.oaktree.util.RenderHelper;
 import io.github.redstoneparadox.oaktree.util.TextHelper;
+import io.github.redstoneparadox.oaktree.util.TextMesh;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.OrderedText;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,6 +28,13 @@ public class LabelControl extends Control {
 	protected int firstLine = 0;
 	protected boolean fitText = false;
 
+	private @Nullable List<OrderedText> wrappedLines = null;
+	private @Nullable Text wrappedText = null;
+	private int wrappedWidth = 0;
+	private boolean wrappedShadow = false;
+	// Baked glyphs for each wrapped line, made as lines are drawn.
+	private final List<@Nullable TextMesh> lineMeshes = new ArrayList<>();
+
 	public LabelControl() {
 		this.id = "label";
 	}
@@ -37,6 +47,8 @@ public class LabelControl extends Control {
 	 */
 	public void setText(@NotNull Text text) {
 		this.text = text;
+		wrappedLines = null;
+		repaint();
 		if (fitText) markDirty();
 	}
 
@@ -50,6 +62,8 @@ public class LabelControl extends Control {
 	 */
 	public void setText(String text) {
 		this.text = Text.literal(text);
+		wrappedLines = null;
+		repaint();
 		if (fitText) markDirty();
 	}
 
@@ -67,6 +81,8 @@ public class LabelControl extends Control {
 	@ApiStatus.ScheduledForRemoval
 	public void setText(List<Text> texts) {
 		this.text = TextHelper.combine(texts, true);
+		wrappedLines = null;
+		repaint();
 		if (fitText) markDirty();
 	}
 
@@ -75,6 +91,8 @@ public class LabelControl extends Control {
 	 */
 	public void clearText() {
 		this.text = Text.empty();
+		wrappedLines = null;
+		repaint();
 		if (fitText) markDirty();
 	}
 
@@ -89,6 +107,7 @@ public class LabelControl extends Control {
 	 */
 	public void setShadow(boolean shadow) {
 		this.shadow = shadow;
+		repaint();
 	}
 
 	public boolean isShadow() {
@@ -103,6 +122,7 @@ public class LabelControl extends Control {
 	 */
 	public void setFontColor(@NotNull Color fontColor) {
 		this.fontColor = fontColor;
+		repaint();
 	}
 
 	public @NotNull Color getFontColor() {
@@ -116,6 +136,7 @@ public class LabelControl extends Control {
 	 */
 	public void setMaxDisplayedLines(int maxDisplayedLines) {
 		this.maxDisplayedLines = Math.max(0, maxDisplayedLines);
+		repaint();
 	}
 
 	public int getMaxDisplayedLines() {
@@ -124,14 +145,17 @@ public class LabelControl extends Control {
 
 	public void setFirstLine(int firstLine) {
 		this.firstLine = Math.max(0, firstLine);
+		repaint();
 	}
 
 	public void moveToStart() {
 		this.firstLine = 0;
+		repaint();
 	}
 
 	public void moveToEnd() {
-		this.firstLine = TextHelper.wrapText(text, area.getWidth(), 0, Integer.MAX_VALUE, shadow, true).size() - maxDisplayedLines;
+		this.firstLine = getWrappedLines().size() - maxDisplayedLines;
+		repaint();
 	}
 
 	public int getFirstLine() {
@@ -175,13 +199,45 @@ public class LabelControl extends Control {
 		super.draw(matrices, theme);
 		
 		if (maxDisplayedLines > 0) {
-			List<OrderedText> lines = TextHelper.wrapText(text, area.getWidth(), firstLine, maxDisplayedLines, shadow, false);
+			List<OrderedText> lines = getWrappedLines();
+			int end = Math.min(firstLine + maxDisplayedLines, lines.size());
 			int yOffset = 0;
 
-			for (OrderedText line: lines) {
-				RenderHelper.drawText(matrices, line, trueArea.getX(), trueArea.getY() + yOffset, shadow, fontColor);
+			for (int i = Math.max(firstLine, 0); i < end; i++) {
+				RenderHelper.drawText(matrices, getLineMesh(i, lines.get(i)), trueArea.getX(), trueArea.getY() + yOffset);
 				yOffset += TextHelper.getFontHeight();
 			}
 		}
 	}
+
+	/**
+	 * Wraps the text, reusing the last result as long as
+	 * the text, width and shadow are unchanged.
+	 */
+	private List<OrderedText> getWrappedLines() {
+		int width = area.getWidth();
+
+		if (wrappedLines == null || wrappedText != text || wrappedWidth != width || wrappedShadow != shadow) {
+			wrappedLines = TextHelper.wrapText(text, width, 0, Integer.MAX_VALUE, shadow, true);
+			wrappedText = text;
+			wrappedWidth = width;
+			wrappedShadow = shadow;
+
+			lineMeshes.clear();
+			for (int i = 0; i < wrappedLines.size(); i++) lineMeshes.add(null);
+		}
+
+		return wrappedLines;
+	}
+
+	private TextMesh getLineMesh(int index, OrderedText line) {
+		TextMesh mesh = lineMeshes.get(index);
+
+		if (mesh == null || !mesh.matches(line, shadow, fontColor)) {
+			mesh = new TextMesh(line, shadow, fontColor);
+			lineMeshes.set(index, mesh);
+		}
+
+		return mesh;
+	}
 }
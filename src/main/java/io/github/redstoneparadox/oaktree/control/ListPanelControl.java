@@ -1,18 +1,39 @@
 package io.github.redstoneparadox.oaktree.control;
 
 import io.github.redstoneparadox.oaktree.math.Rectangle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * A {@link PanelControl} that arranges its children
  * as a vertical or horizontal list. It can be set
  * to only display some of its children at once
  * and can be scrolled.
+ *
+ * <p>Alternatively, a list can be given an item count
+ * and a row factory with {@link #setItems}, in which
+ * case only enough rows to fill the display exist and
+ * they are bound to different items as the list
+ * scrolls.</p>
  */
 public class ListPanelControl extends PanelControl {
+	// Rows kept beyond the displayed ones so that scrolling can bind ahead.
+	private static final int OVERSCAN = 2;
+
 	protected boolean horizontal = false;
 	protected int displayCount = 1;
 	protected int startIndex = 0;
 
+	private int itemCount = 0;
+	private @Nullable Supplier<? extends Control> rowFactory = null;
+	private @Nullable BiConsumer<Control, Integer> rowBinder = null;
+	// The item each row is currently bound to, or -1.
+	private int[] boundItems = new int[0];
+
 	public ListPanelControl() {
 		id = "list_panel";
 	}
@@ -40,6 +61,7 @@ public class ListPanelControl extends PanelControl {
 	public void setDisplayCount(int displayCount) {
 		// TODO: Display count should only be clamped during prepare
 		if (displayCount < 1) this.displayCount = 1;
+		else if (isVirtual()) this.displayCount = displayCount;
 		else this.displayCount = Math.min(displayCount, children.size());
 		markDirty();
 	}
@@ -55,8 +77,9 @@ public class ListPanelControl extends PanelControl {
 	 * @param startIndex The index of the child
 	 */
 	public void setStartIndex(int startIndex) {
-		if (startIndex < 0) this.startIndex = 0;
-		else this.startIndex = Math.min(startIndex, children.size() - displayCount);
+		int count = isVirtual() ? itemCount : children.size();
+
+		this.startIndex = Math.max(0, Math.min(startIndex, count - displayCount));
 		markDirty();
 	}
 
@@ -73,37 +96,136 @@ public class ListPanelControl extends PanelControl {
 		setStartIndex(startIndex + amount);
 	}
 
+	/**
+	 * <p>Switches this list to displaying items from a
+	 * data source. Rows are created by the factory as
+	 * they are needed, up to the display count plus a
+	 * couple of spares, and are passed to the binder
+	 * along with the index of the item they should now
+	 * show whenever that item changes.</p>
+	 *
+	 * <p>Any existing children are removed, and children
+	 * should not be added directly afterwards.</p>
+	 *
+	 * @param itemCount The number of items.
+	 * @param rowFactory Creates a new row.
+	 * @param rowBinder Updates a row to show an item.
+	 * @param <T> The type of the rows.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Control> void setItems(int itemCount, @NotNull Supplier<T> rowFactory, @NotNull BiConsumer<T, Integer> rowBinder) {
+		children.forEach(Control::cleanup);
+		children.clear();
+
+		this.rowFactory = rowFactory;
+		this.rowBinder = (BiConsumer<Control, Integer>) rowBinder;
+		this.boundItems = new int[0];
+		setItemCount(itemCount);
+	}
+
+	/**
+	 * Sets the number of items when displaying items from
+	 * a data source. Every displayed row is bound again,
+	 * so this should also be called when items change.
+	 *
+	 * @param itemCount The number of items.
+	 */
+	public void setItemCount(int itemCount) {
+		this.itemCount = Math.max(0, itemCount);
+		Arrays.fill(boundItems, -1);
+		setStartIndex(startIndex);
+	}
+
+	public int getItemCount() {
+		return isVirtual() ? itemCount : children.size();
+	}
+
+	public boolean isVirtual() {
+		return rowFactory != null;
+	}
+
 	@Override
 	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
-		for (int i = 0; i < children.size(); i++) {
-			Control child = children.get(i);
-			child.visible = (i >= startIndex) && (i < startIndex + displayCount);
+		if (isVirtual()) {
+			bindRows();
+		}
+		else {
+			for (int i = 0; i < children.size(); i++) {
+				Control child = children.get(i);
+				child.setVisibleDuringLayout((i >= startIndex) && (i < startIndex + displayCount));
+			}
 		}
 
 		super.updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
 	}
 
+	/**
+	 * Makes sure there are enough rows and binds them to
+	 * the items around the start index. Item i is always
+	 * shown by row i % rowCount, so scrolling only binds
+	 * the items that came into view.
+	 */
+	private void bindRows() {
+		int rowCount = displayCount + OVERSCAN;
+
+		if (children.size() != rowCount) {
+			while (children.size() > rowCount) {
+				children.remove(children.size() - 1).cleanup();
+			}
+			while (children.size() < rowCount) {
+				Control row = rowFactory.get();
+				row.setParent(this);
+				children.add(row);
+			}
+
+			boundItems = new int[rowCount];
+			Arrays.fill(boundItems, -1);
+		}
+
+		int end = Math.min(startIndex + rowCount, itemCount);
+
+		for (int item = startIndex; item < end; item++) {
+			int row = item % rowCount;
+
+			if (boundItems[row] != item) {
+				rowBinder.accept(children.get(row), item);
+				boundItems[row] = item;
+			}
+		}
+
+		for (int row = 0; row < rowCount; row++) {
+			int item = boundItems[row];
+			children.get(row).setVisibleDuringLayout(item >= startIndex && item < Math.min(startIndex + displayCount, itemCount));
+		}
+	}
+
 	@Override
 	protected Rectangle getChildArea(int index) {
-		if (index < startIndex || index >= startIndex + displayCount) {
-			return Rectangle.DEFAULT;
+		int item = index;
+		if (isVirtual()) item = index < boundItems.length ? boundItems[index] : -1;
+
+		if (item < startIndex || item >= startIndex + displayCount) {
+			childArea.set(0, 0, 1, 1);
+			return childArea;
 		}
 
-		int i = index - startIndex;
+		int i = item - startIndex;
+		// Rows from a data source share the display evenly.
+		int divisions = isVirtual() ? displayCount : children.size();
 		int innerX;
 		int innerY;
 		int innerWidth;
 		int innerHeight;
 
 		if (horizontal) {
-			int divisionWidth = trueArea.getWidth()/children.size();
+			int divisionWidth = trueArea.getWidth()/divisions;
 
 			innerX = trueArea.getX() + leftPadding + divisionWidth * i;
 			innerY = trueArea.getY() + topPadding;
 			innerWidth = divisionWidth - leftPadding - rightPadding;
 			innerHeight = trueArea.getHeight() - topPadding - bottomPadding;
 		} else {
-			int divisionHeight = trueArea.getHeight()/children.size();
+			int divisionHeight = trueArea.getHeight()/divisions;
 
 			innerX = trueArea.getX() + leftPadding;
 			innerY = trueArea.getY() + topPadding + divisionHeight * i;
@@ -111,6 +233,7 @@ public class ListPanelControl extends PanelControl {
 			innerHeight = divisionHeight - topPadding - bottomPadding;
 		}
 
-		return new Rectangle(innerX, innerY, innerWidth, innerHeight);
+		childArea.set(innerX, innerY, innerWidth, innerHeight);
+		return childArea;
 	}
 }
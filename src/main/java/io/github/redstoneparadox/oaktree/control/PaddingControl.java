@@ -72,6 +72,40 @@ public abstract class PaddingControl extends Control {
 		return rightPadding;
 	}
 
+	/**
+	 * <p>Sets whether this Control and everything beneath
+	 * it should be drawn once into an offscreen layer and
+	 * then drawn from that layer every frame. The layer
+	 * is only drawn again when something beneath this
+	 * Control is laid out again or changes its painter.</p>
+	 *
+	 * <p>Best suited to large, static parts of a GUI.
+	 * The layer is the size of this Control, so anything
+	 * beneath it that draws outside its area is cut off.
+	 * Tooltips are never drawn into a layer. Changes to
+	 * the state of a {@link SliderControl}, the highlight
+	 * of a {@link SlotControl}, a {@link TextEditControl},
+	 * a {@link ProgressBarControl} or an
+	 * {@link EntityPreviewControl} are not picked up
+	 * inside a layer, so those should be kept outside
+	 * of one.</p>
+	 *
+	 * @param layered Whether to draw through a layer.
+	 */
+	public void setLayered(boolean layered) {
+		if (layered && layer == null) {
+			layer = new ControlLayer();
+		}
+		else if (!layered && layer != null) {
+			layer.close();
+			layer = null;
+		}
+	}
+
+	public boolean isLayered() {
+		return layer != null;
+	}
+
 	Vector2 innerDimensions(int spaceWidth, int spaceHeight) {
 		int innerWidth = spaceWidth - leftPadding - rightPadding;
 		int innerHeight = spaceHeight - topPadding - bottomPadding;
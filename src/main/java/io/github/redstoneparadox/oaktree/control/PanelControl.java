@@ -16,6 +16,8 @@ import java.util.function.Function;
  */
 public class PanelControl extends PaddingControl {
 	public final List<@NotNull Control> children = new ArrayList<>();
+	// Reused by getChildArea so laying out children doesn't allocate.
+	protected final Rectangle childArea = new Rectangle(0, 0, 1, 1);
 
 	public PanelControl() {
 		this.id = "panel";
@@ -81,7 +83,7 @@ public class PanelControl extends PaddingControl {
 			Control child = children.get(i);
 			Rectangle childArea = getChildArea(i);
 
-			if (child.visible) child.updateTree(zIndexedControls, childArea.getX(), childArea.getY(), childArea.getWidth(), childArea.getHeight());
+			if (child.visible) child.layout(zIndexedControls, childArea.getX(), childArea.getY(), childArea.getWidth(), childArea.getHeight());
 		}
 	}
 
@@ -92,13 +94,21 @@ public class PanelControl extends PaddingControl {
 		children.forEach(Control::cleanup);
 	}
 
+	/**
+	 * Gets the area the child at the given index should be laid
+	 * out in. The returned {@link Rectangle} is reused between
+	 * calls, so it is only valid until the next call.
+	 *
+	 * @param index The index of the child.
+	 * @return The area of the child.
+	 */
 	protected Rectangle getChildArea(int index) {
-		// TODO: Figure out some way to cache the result
 		int innerX = trueArea.getX() + leftPadding;
 		int innerY = trueArea.getY() + topPadding;
 		int innerWidth = trueArea.getWidth() - leftPadding - rightPadding;
 		int innerHeight = trueArea.getHeight() - topPadding - bottomPadding;
 
-		return new Rectangle(innerX, innerY, innerWidth, innerHeight);
+		childArea.set(innerX, innerY, innerWidth, innerHeight);
+		return childArea;
 	}
 }
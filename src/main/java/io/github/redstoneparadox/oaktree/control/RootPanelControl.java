@@ -2,12 +2,22 @@ package io.github.redstoneparadox.oaktree.control;
 
 
 import com.mojang.blaze3d.glfw.Window;
+import io.github.redstoneparadox.oaktree.listeners.KeyListener;
+import io.github.redstoneparadox.oaktree.math.Rectangle;
+import io.github.redstoneparadox.oaktree.painter.Painter;
 import io.github.redstoneparadox.oaktree.painter.Theme;
+import io.github.redstoneparadox.oaktree.util.Color;
+import io.github.redstoneparadox.oaktree.util.QuadBatcher;
 import io.github.redstoneparadox.oaktree.util.RenderHelper;
+import io.github.redstoneparadox.oaktree.util.RenderStats;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -22,15 +32,33 @@ import java.util.function.Consumer;
  * is disabled.</p>
  *
  * <p>When your {@link Screen} is closed, make sure
- * to call {@link RootPanelControl#close()}</p>
+ * to call {@link RootPanelControl#close()}. Roots
+ * rendered in a Screen are also detached automatically
+ * when that Screen is removed, and roots that are
+ * garbage collected without either happening are
+ * logged.</p>
  */
-public class RootPanelControl extends PanelControl {
+public class RootPanelControl extends PanelControl implements KeyListener {
 	protected Theme theme;
 	private boolean dirty = true;
 	private final ZIndexedControls zIndexedControls = new ZIndexedControls();
+	private final QuadBatcher batcher = new QuadBatcher();
+	private final HitGrid hitGrid = new HitGrid();
+	private final Clipper clipper = new Clipper();
+	private final TooltipOverlay tooltipOverlay = new TooltipOverlay();
+	private final List<Control> alwaysInteracting = new ArrayList<>();
+	private Control lastHovered = null;
+	private boolean occlusionCulling = false;
+	private final RenderStats stats = new RenderStats();
+	private final List<Consumer<RenderStats>> statsListeners = new ArrayList<>();
+	private int statsOverlayKey = GLFW.GLFW_KEY_UNKNOWN;
+	private boolean statsOverlayVisible = false;
+	private final InputRouter inputRouter = new InputRouter(this);
+	private final RootTracker.LeakState leakState = RootTracker.track(this);
+	private @Nullable Screen attachedScreen = null;
 
 	public RootPanelControl() {
-		theme = Theme.vanilla();
+		theme = Theme.sharedVanilla();
 	}
 
 	/**
@@ -43,12 +71,84 @@ public class RootPanelControl extends PanelControl {
 	}
 
 	/**
-	 * Gets the current theme.
+	 * Gets a Theme derived from the current theme, which
+	 * can be modified and passed to {@link #setTheme}.
 	 *
-	 * @return The current theme.
+	 * @return The derived theme.
 	 */
 	public Theme getTheme() {
-		return theme.copy();
+		return theme.derive();
+	}
+
+	/**
+	 * Sets whether Controls hidden behind an opaque
+	 * {@link Painter} drawn above them should be skipped.
+	 * Controls off screen or without any area are always
+	 * skipped.
+	 *
+	 * @param occlusionCulling Whether to skip hidden Controls.
+	 */
+	public void setOcclusionCulling(boolean occlusionCulling) {
+		this.occlusionCulling = occlusionCulling;
+	}
+
+	public boolean isOcclusionCulling() {
+		return occlusionCulling;
+	}
+
+	/**
+	 * Adds a listener that is given the {@link RenderStats}
+	 * for every frame once it has been drawn. Stats are
+	 * only recorded while there is a listener or the
+	 * overlay is visible.
+	 *
+	 * @param listener The listener.
+	 */
+	public void addStatsListener(Consumer<RenderStats> listener) {
+		statsListeners.add(listener);
+	}
+
+	public void removeStatsListener(Consumer<RenderStats> listener) {
+		statsListeners.remove(listener);
+	}
+
+	/**
+	 * Sets the key that shows and hides an overlay with
+	 * the {@link RenderStats} for each frame.
+	 *
+	 * @param key The GLFW key code, or
+	 *            {@link GLFW#GLFW_KEY_UNKNOWN} for none.
+	 */
+	public void setStatsOverlayKey(int key) {
+		statsOverlayKey = key;
+	}
+
+	public int getStatsOverlayKey() {
+		return statsOverlayKey;
+	}
+
+	public void setStatsOverlayVisible(boolean statsOverlayVisible) {
+		this.statsOverlayVisible = statsOverlayVisible;
+	}
+
+	public boolean isStatsOverlayVisible() {
+		return statsOverlayVisible;
+	}
+
+	/**
+	 * Gets the Control that keyboard input is sent to,
+	 * which is the Control closest to the last mouse
+	 * press that listens for keys or characters.
+	 *
+	 * @return The focused Control or null if there is none.
+	 */
+	public @Nullable Control getFocusedControl() {
+		return inputRouter.getFocused();
+	}
+
+	@Override
+	public void onKey(int key, int scanCode, int action, int modifiers) {
+		if (key != GLFW.GLFW_KEY_UNKNOWN && key == statsOverlayKey && action == GLFW.GLFW_PRESS) statsOverlayVisible = !statsOverlayVisible;
 	}
 
 	/**
@@ -61,38 +161,155 @@ public class RootPanelControl extends PanelControl {
 	 * @param deltaTime The time since the last frame
 	 */
 	public void render(MatrixStack matrixStack, int mouseX, int mouseY, float deltaTime) {
-		if (dirty) {
-			MinecraftClient client = MinecraftClient.getInstance();
-			Window window = client.getWindow();
+		MinecraftClient client = MinecraftClient.getInstance();
+		Window window = client.getWindow();
+		boolean recording = statsOverlayVisible || !statsListeners.isEmpty();
+
+		// Input goes to whichever root was drawn last.
+		inputRouter.activate();
+		leakState.open = true;
+
+		if (client.currentScreen != null && client.currentScreen != attachedScreen) {
+			attachedScreen = client.currentScreen;
+			RootTracker.attach(this, attachedScreen);
+		}
+
+		if (recording) stats.beginFrame();
+		// Before anything caches a painter, so that Controls draw from the atlas.
+		theme.updateAtlas();
+		update(mouseX, mouseY, deltaTime, window.getScaledWidth(), window.getScaledHeight());
+
+		long drawStart = System.nanoTime();
+		RenderHelper.beginBatch(batcher);
+
+		for (int i = 0; i < zIndexedControls.size(); i++) {
+			ZIndexedControls.Entry entry = zIndexedControls.get(i);
+			Control control = entry.control();
+			boolean layered = control.layer != null && !control.isTooltip;
 
+			if (entry.culled()) continue;
+
+			// Controls scrolled out of view are skipped, along with everything in their layer.
+			if (!clipper.apply(entry)) {
+				if (layered) i = zIndexedControls.layerEnd(i) - 1;
+				continue;
+			}
+
+			RenderHelper.setzOffset(entry.zOffset());
+
+			if (layered) {
+				int end = zIndexedControls.layerEnd(i);
+				control.layer.draw(matrixStack, theme, zIndexedControls, i, end, entry.zOffset(), clipper);
+				i = end - 1;
+			}
+			else {
+				control.draw(matrixStack, theme);
+			}
+
+			RenderHelper.setzOffset(0);
+		}
+
+		clipper.reset();
+		tooltipOverlay.draw(matrixStack, theme);
+		RenderHelper.endBatch();
+		stats.recordDraw(System.nanoTime() - drawStart);
+
+		if (recording) {
+			stats.endFrame();
+
+			for (int i = 0; i < statsListeners.size(); i++) {
+				statsListeners.get(i).accept(stats);
+			}
+		}
+
+		if (statsOverlayVisible) drawStatsOverlay(matrixStack, client);
+	}
+
+	private void drawStatsOverlay(MatrixStack matrices, MinecraftClient client) {
+		String[] lines = {
+				String.format("Layout: %.3f ms, %d controls", stats.getLayoutNanos() / 1.0e6, stats.getRelaidOutControls()),
+				String.format("Interact: %.3f ms", stats.getInteractNanos() / 1.0e6),
+				String.format("Draw: %.3f ms", stats.getDrawNanos() / 1.0e6),
+				String.format("Quads: %d, binds: %d, shaders: %d", stats.getQuads(), stats.getTextureBinds(), stats.getShaderChanges()),
+				String.format("Wrapped lines: %d", stats.getWrappedLines()),
+				stats.getAllocatedBytes() >= 0 ? String.format("Allocated: %d B", stats.getAllocatedBytes()) : "Allocated: n/a"
+		};
+		int width = 0;
+
+		for (String line: lines) {
+			width = Math.max(width, client.textRenderer.getWidth(line));
+		}
+
+		RenderHelper.setzOffset(1000);
+		RenderHelper.drawRectangle(matrices, 0, 0, width + 8, lines.length * 10 + 6, Color.rgba(0.0f, 0.0f, 0.0f, 0.5f));
+
+		for (int i = 0; i < lines.length; i++) {
+			RenderHelper.drawText(matrices, Text.literal(lines[i]).asOrderedText(), 0, i * 10 - 1, false, Color.WHITE);
+		}
+
+		RenderHelper.setzOffset(0);
+	}
+
+	/**
+	 * Lays out, interacts with and prepares the
+	 * {@link Control} tree for a frame without drawing
+	 * it, so it can run without a window.
+	 */
+	void update(int mouseX, int mouseY, float deltaTime, int screenWidth, int screenHeight) {
+		long layoutStart = System.nanoTime();
+		zIndexedControls.added = 0;
+
+		if (!layoutValid || screenWidth != containerWidth || screenHeight != containerHeight) {
 			zIndexedControls.clear();
-			updateTree(zIndexedControls, 0, 0, window.getScaledWidth(), window.getScaledHeight());
+			layout(zIndexedControls, 0, 0, screenWidth, screenHeight);
 			zIndexedControls.moveTooltipsToEnd();
+			updateHitTesting(screenWidth, screenHeight);
 
 			dirty = false;
 		}
+		else if (dirty) {
+			zIndexedControls.layoutDirty();
+			updateHitTesting(screenWidth, screenHeight);
 
-		boolean captured = false;
+			dirty = false;
+		}
 
-		for (int i = zIndexedControls.size() - 1; i >= 0; i--) {
-			Control control = zIndexedControls.get(i).control();
+		stats.recordLayout(System.nanoTime() - layoutStart, zIndexedControls.added);
 
-			if (!captured) {
-				captured = control.interact(mouseX, mouseY, deltaTime, false);
-			} else {
-				control.interact(mouseX, mouseY, deltaTime, true);
-			}
+		long interactStart = System.nanoTime();
+		int hit = hitGrid.find(zIndexedControls, mouseX, mouseY);
+		Control hovered = hit >= 0 ? zIndexedControls.get(hit).control() : null;
+
+		// Controls that aren't under the mouse only need to know
+		// when they stop being hovered, unless they ask for more.
+		if (lastHovered != null && lastHovered != hovered) {
+			lastHovered.interact(mouseX, mouseY, deltaTime, true);
 		}
 
-		for (ZIndexedControls.Entry entry: zIndexedControls) {
-			entry.control().prepare();
+		for (int i = 0; i < alwaysInteracting.size(); i++) {
+			Control control = alwaysInteracting.get(i);
+			if (control != hovered && control != lastHovered) control.interact(mouseX, mouseY, deltaTime, true);
 		}
 
-		for (ZIndexedControls.Entry entry: zIndexedControls) {
-			RenderHelper.setzOffset(entry.zOffset());
-			entry.control().draw(matrixStack, theme);
-			RenderHelper.setzOffset(0);
+		if (hovered != null) hovered.interact(mouseX, mouseY, deltaTime, false);
+		lastHovered = hovered;
+		inputRouter.setHovered(hovered);
+		stats.recordInteract(System.nanoTime() - interactStart);
+
+		long tooltipStart = System.nanoTime();
+		int tooltipControls = tooltipOverlay.update(hovered, mouseX, mouseY, screenWidth, screenHeight);
+		stats.recordLayout(System.nanoTime() - tooltipStart, tooltipControls);
+
+		long prepareStart = System.nanoTime();
+
+		// Indexed so that steady-state frames don't allocate an iterator.
+		for (int i = 0; i < zIndexedControls.size(); i++) {
+			zIndexedControls.get(i).control().prepare();
 		}
+		tooltipOverlay.prepare();
+
+		stats.recordInteract(System.nanoTime() - prepareStart);
+		zIndexedControls.cull(screenWidth, screenHeight, occlusionCulling ? theme : null);
 	}
 
 	@Override
@@ -100,61 +317,342 @@ public class RootPanelControl extends PanelControl {
 		return false;
 	}
 
+	private void updateHitTesting(int screenWidth, int screenHeight) {
+		hitGrid.rebuild(zIndexedControls, screenWidth, screenHeight, this);
+		alwaysInteracting.clear();
+
+		for (int i = 0; i < zIndexedControls.size(); i++) {
+			Control control = zIndexedControls.get(i).control();
+			if (control != this && control.isInteractiveWhileUnhovered()) alwaysInteracting.add(control);
+		}
+	}
+
 	public void close() {
 		cleanup();
 	}
 
 	@Override
-	protected void markDirty() {
+	protected void cleanup() {
+		super.cleanup();
+		inputRouter.deactivate();
+		tooltipOverlay.clear();
+		leakState.open = false;
+	}
+
+	/**
+	 * Releases everything held for rendering once the
+	 * Screen this was rendered in is removed. Rendering
+	 * again acquires it all again.
+	 */
+	void detach() {
+		cleanup();
+		attachedScreen = null;
+	}
+
+	@Override
+	void invalidateSubtree() {
+		super.invalidateSubtree();
 		this.dirty = true;
 	}
 
 	protected static class ZIndexedControls implements Iterable<ZIndexedControls.Entry> {
+		private static final int MAX_OCCLUDERS = 16;
+
+		// Every laid out Control in tree order; a Control's
+		// subtree is the run of deeper entries following it.
 		private final List<Entry> entries = new ArrayList<>();
+		// The same entries with tooltips moved to the end.
+		private final List<Entry> ordered = new ArrayList<>();
+		private final List<Entry> tail = new ArrayList<>();
+		// Entries are recycled so that laying out doesn't allocate.
+		private final List<Entry> pool = new ArrayList<>();
+		// Left, top, right and bottom of each opaque area found while culling.
+		private final int[] occluders = new int[MAX_OCCLUDERS * 4];
+		// The clip areas enclosing the Control being added and
+		// the depths they apply below; null means unclipped.
+		private final List<@Nullable Rectangle> clips = new ArrayList<>();
+		private final IntArrayList clipDepths = new IntArrayList();
 		private int offset = 0;
+		private int depth = 0;
+		// How many Controls have been laid out since this was last reset.
+		int added = 0;
 
 		protected ZIndexedControls() {}
 
 		public int size() {
-			return entries.size();
+			return ordered.size();
 		}
 
 		public Entry get(int index) {
-			return entries.get(index);
+			return ordered.get(index);
 		}
 
 		public void add(Control control) {
-			entries.add(new Entry(control, offset));
+			Entry entry = pool.isEmpty() ? new Entry() : pool.remove(pool.size() - 1);
+
+			while (!clipDepths.isEmpty() && clipDepths.getInt(clipDepths.size() - 1) >= depth) {
+				clipDepths.removeInt(clipDepths.size() - 1);
+				clips.remove(clips.size() - 1);
+			}
+
+			Rectangle clip = control.isTooltip || clips.isEmpty() ? null : clips.get(clips.size() - 1);
+
+			entry.control = control;
+			entry.zOffset = offset;
+			entry.depth = depth;
+			entry.clip = clip;
+			entries.add(entry);
+			added += 1;
+
+			// Tooltips and everything beneath them are drawn over the whole screen.
+			if (control.isTooltip) {
+				pushClip(null, depth);
+			}
+			else if (control instanceof ScrollPanelControl scrollPanel) {
+				pushClip(scrollPanel.updateViewport(clip), depth);
+			}
+		}
+
+		private void pushClip(@Nullable Rectangle clip, int depth) {
+			clips.add(clip);
+			clipDepths.add(depth);
 		}
 
 		public void addOffset(int offset) {
 			this.offset += offset;
 		}
 
+		void enter() {
+			depth += 1;
+		}
+
+		void exit() {
+			depth -= 1;
+		}
+
 		public void clear() {
+			for (int i = 0; i < entries.size(); i++) {
+				release(entries.get(i));
+			}
+
 			entries.clear();
+			ordered.clear();
+			clips.clear();
+			clipDepths.clear();
+			offset = 0;
+			depth = 0;
 		}
 
 		public void moveTooltipsToEnd() {
-			List<Entry> tooltips = new ArrayList<>();
-			List<Entry> nonTooltips = new ArrayList<>();
+			ordered.clear();
 
-			for (Entry entry: entries) {
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				if (!entry.control.isTooltip) ordered.add(entry);
+			}
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				if (entry.control.isTooltip) ordered.add(entry);
+			}
+		}
+
+		/**
+		 * Lays out every dirty subtree again in the same
+		 * container it was last given and splices the
+		 * new entries in place of the old ones. Subtrees
+		 * with nothing dirty in them are skipped, and the
+		 * children of scrolled {@link ScrollPanelControl}s
+		 * are moved instead of laid out.
+		 */
+		void layoutDirty() {
+			int index = 0;
+
+			while (index < entries.size()) {
+				Control control = entries.get(index).control;
+
+				if (!control.layoutValid) {
+					index = relayout(index);
+				}
+				else if (control.subtreeValid) {
+					index = subtreeEnd(index);
+				}
+				else {
+					control.subtreeValid = true;
+					if (control instanceof ScrollPanelControl scrollPanel) scroll(index, scrollPanel);
+					index += 1;
+				}
+			}
+
+			moveTooltipsToEnd();
+		}
+
+		private int relayout(int start) {
+			Entry entry = entries.get(start);
+			Control control = entry.control;
+			int zOffset = entry.zOffset;
+			int entryDepth = entry.depth;
+			Rectangle clip = entry.clip;
+			int end = subtreeEnd(start);
+
+			tail.clear();
+			for (int i = end; i < entries.size(); i++) {
+				tail.add(entries.get(i));
+			}
+			for (int i = entries.size() - 1; i >= start; i--) {
+				Entry removed = entries.remove(i);
+				if (i < end) release(removed);
+			}
+
+			offset = zOffset;
+			depth = entryDepth - 1;
+			pushClip(clip, depth);
+			control.layout(this, control.containerX, control.containerY, control.containerWidth, control.containerHeight);
+			clips.clear();
+			clipDepths.clear();
+			offset = 0;
+			depth = 0;
+
+			int newEnd = entries.size();
+			for (int i = 0; i < tail.size(); i++) {
+				entries.add(tail.get(i));
+			}
+			tail.clear();
+
+			return newEnd;
+		}
+
+		/**
+		 * Marks the entries that don't need to be drawn:
+		 * those without any area on screen and, if a
+		 * {@link Theme} is given, those entirely beneath an
+		 * opaque {@link Painter} drawn later. Layered
+		 * Controls are never culled since their layer may
+		 * cover more than their own area.
+		 */
+		void cull(int screenWidth, int screenHeight, @Nullable Theme theme) {
+			int occluderCount = 0;
+
+			for (int i = ordered.size() - 1; i >= 0; i--) {
+				Entry entry = ordered.get(i);
 				Control control = entry.control;
+				Rectangle area = control.trueArea;
+				Rectangle clip = entry.clip;
+
+				entry.culled = false;
+				if (control.layer != null && !control.isTooltip) continue;
+
+				Painter painter = theme != null ? control.getPainter(theme) : null;
+				// Borders and the like are drawn outside trueArea, so test the area they reach.
+				int overdraw = painter != null ? Math.max(painter.getOverdraw(), 0) : 0;
+
+				int left = Math.max(area.getX() - overdraw, 0);
+				int top = Math.max(area.getY() - overdraw, 0);
+				int right = Math.min(area.getX() + area.getWidth() + overdraw, screenWidth);
+				int bottom = Math.min(area.getY() + area.getHeight() + overdraw, screenHeight);
+
+				if (clip != null) {
+					left = Math.max(left, clip.getX());
+					top = Math.max(top, clip.getY());
+					right = Math.min(right, clip.getX() + clip.getWidth());
+					bottom = Math.min(bottom, clip.getY() + clip.getHeight());
+				}
+
+				if (right <= left || bottom <= top || isOccluded(occluderCount, left, top, right, bottom)) {
+					entry.culled = true;
+					continue;
+				}
+
+				if (painter != null && occluderCount < MAX_OCCLUDERS && painter.isOpaque()) {
+					// Only trueArea is known to be filled.
+					int occluderLeft = Math.max(left, area.getX());
+					int occluderTop = Math.max(top, area.getY());
+					int occluderRight = Math.min(right, area.getX() + area.getWidth());
+					int occluderBottom = Math.min(bottom, area.getY() + area.getHeight());
+					if (occluderRight <= occluderLeft || occluderBottom <= occluderTop) continue;
+
+					int index = occluderCount * 4;
+
+					occluders[index] = occluderLeft;
+					occluders[index + 1] = occluderTop;
+					occluders[index + 2] = occluderRight;
+					occluders[index + 3] = occluderBottom;
+					occluderCount += 1;
+				}
+			}
+		}
 
-				if (control.isTooltip) tooltips.add(entry);
-				else nonTooltips.add(entry);
+		private boolean isOccluded(int occluderCount, int left, int top, int right, int bottom) {
+			for (int i = 0; i < occluderCount * 4; i += 4) {
+				if (left >= occluders[i] && top >= occluders[i + 1] && right <= occluders[i + 2] && bottom <= occluders[i + 3]) return true;
 			}
 
-			entries.clear();
-			entries.addAll(nonTooltips);
-			entries.addAll(tooltips);
+			return false;
+		}
+
+		/**
+		 * Finds the end of the drawn subtree starting at the
+		 * given index, which excludes tooltips since they
+		 * are always drawn last.
+		 */
+		int layerEnd(int start) {
+			int depth = ordered.get(start).depth;
+			int end = start + 1;
+
+			while (end < ordered.size() && ordered.get(end).depth > depth && !ordered.get(end).control.isTooltip) end += 1;
+
+			return end;
+		}
+
+		/**
+		 * Moves everything beneath a ScrollPanelControl by
+		 * however far it was scrolled since its children
+		 * were last placed.
+		 */
+		private void scroll(int start, ScrollPanelControl scrollPanel) {
+			int x = scrollPanel.pendingScrollX;
+			int y = scrollPanel.pendingScrollY;
+			if (x == 0 && y == 0) return;
+
+			scrollPanel.pendingScrollX = 0;
+			scrollPanel.pendingScrollY = 0;
+
+			int end = subtreeEnd(start);
+
+			for (int i = start + 1; i < end; i++) {
+				Entry entry = entries.get(i);
+				Control control = entry.control;
+				Rectangle trueArea = control.trueArea;
+
+				trueArea.set(trueArea.getX() + x, trueArea.getY() + y, trueArea.getWidth(), trueArea.getHeight());
+				// Kept in step so that a child laid out again later lands in the same place.
+				control.containerX += x;
+				control.containerY += y;
+				if (control.layer != null) control.layer.invalidate();
+				// Enclosing clips come first in tree order, so they are already up to date.
+				if (control instanceof ScrollPanelControl nested) nested.updateViewport(entry.clip);
+				control.onScrolled(entry.clip);
+			}
+		}
+
+		private int subtreeEnd(int start) {
+			int depth = entries.get(start).depth;
+			int end = start + 1;
+
+			while (end < entries.size() && entries.get(end).depth > depth) end += 1;
+
+			return end;
+		}
+
+		private void release(Entry entry) {
+			entry.control = null;
+			entry.clip = null;
+			pool.add(entry);
 		}
 
 		@NotNull
 		@Override
 		public Iterator<Entry> iterator() {
-			return entries.listIterator();
+			return ordered.listIterator();
 		}
 
 		@Override
@@ -167,6 +665,42 @@ public class RootPanelControl extends PanelControl {
 			return Iterable.super.spliterator();
 		}
 
-		public record Entry(Control control, int zOffset) { }
+		public static final class Entry {
+			private Control control;
+			private int zOffset;
+			private int depth;
+			private @Nullable Rectangle clip;
+			private boolean culled = false;
+
+			private Entry() {}
+
+			public Control control() {
+				return control;
+			}
+
+			public int zOffset() {
+				return zOffset;
+			}
+
+			public int depth() {
+				return depth;
+			}
+
+			/**
+			 * @return The area this Entry's Control is
+			 * clipped to, or null if it isn't clipped.
+			 */
+			public @Nullable Rectangle clip() {
+				return clip;
+			}
+
+			/**
+			 * @return Whether this Entry's Control was found
+			 * not to need drawing this frame.
+			 */
+			public boolean culled() {
+				return culled;
+			}
+		}
 	}
 }
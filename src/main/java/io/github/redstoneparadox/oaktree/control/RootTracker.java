@@ -0,0 +1,82 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.OakTree;
+import net.minecraft.client.gui.screen.Screen;
+import org.jetbrains.annotations.ApiStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <p>Ties each {@link RootPanelControl} to the
+ * {@link Screen} it is rendered in so that it is
+ * detached, releasing its input routing and offscreen
+ * layers, when that Screen is closed. Roots are held
+ * weakly, so a root is never kept alive by being
+ * attached.</p>
+ *
+ * <p>Roots that are garbage collected while still
+ * holding onto resources, because they were neither
+ * closed nor detached, are reported as leaks.</p>
+ */
+@ApiStatus.Internal
+public final class RootTracker {
+	private static final Logger LOGGER = LoggerFactory.getLogger(OakTree.MODID);
+	private static final Cleaner CLEANER = Cleaner.create();
+	private static final Map<Screen, List<WeakReference<RootPanelControl>>> ATTACHED = new WeakHashMap<>();
+
+	private RootTracker() {}
+
+	/**
+	 * Detaches every root that was rendered in the given
+	 * Screen. Called whenever a Screen is removed.
+	 */
+	public static void onScreenRemoved(Screen screen) {
+		List<WeakReference<RootPanelControl>> roots = ATTACHED.remove(screen);
+		if (roots == null) return;
+
+		for (WeakReference<RootPanelControl> reference: roots) {
+			RootPanelControl root = reference.get();
+			if (root != null) root.detach();
+		}
+	}
+
+	static void attach(RootPanelControl root, Screen screen) {
+		List<WeakReference<RootPanelControl>> roots = ATTACHED.computeIfAbsent(screen, key -> new ArrayList<>(1));
+		roots.removeIf(reference -> reference.get() == null);
+		roots.add(new WeakReference<>(root));
+	}
+
+	static LeakState track(RootPanelControl root) {
+		LeakState state = new LeakState(root.getClass().getName(), new Throwable("Created here"));
+		CLEANER.register(root, state);
+		return state;
+	}
+
+	/**
+	 * Whether a root is holding onto resources. Must not
+	 * reference the root itself, or it would never be
+	 * collected.
+	 */
+	static final class LeakState implements Runnable {
+		private final String name;
+		private final Throwable origin;
+		volatile boolean open = false;
+
+		private LeakState(String name, Throwable origin) {
+			this.name = name;
+			this.origin = origin;
+		}
+
+		@Override
+		public void run() {
+			if (open) LOGGER.warn("A {} was garbage collected without being closed; call RootPanelControl#close when its Screen is closed.", name, origin);
+		}
+	}
+}
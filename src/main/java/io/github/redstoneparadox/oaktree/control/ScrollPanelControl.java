@@ -0,0 +1,240 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
+import io.github.redstoneparadox.oaktree.listeners.MouseScrollListener;
+import io.github.redstoneparadox.oaktree.math.Rectangle;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * <p>A {@link PanelControl} that lays its children out
+ * in a content area which can be larger than itself and
+ * scrolled by the pixel, either with the mouse wheel or
+ * by dragging its background.</p>
+ *
+ * <p>Children are clipped to the area inside this
+ * Control's padding. Anything scrolled entirely out of
+ * view is neither drawn nor interacted with.</p>
+ *
+ * <p>Scrolling moves the children that are already laid
+ * out rather than laying them out again.</p>
+ */
+public class ScrollPanelControl extends PanelControl implements MouseScrollListener, MouseButtonListener {
+	protected int contentWidth = 0;
+	protected int contentHeight = 0;
+	protected int scrollX = 0;
+	protected int scrollY = 0;
+	protected int scrollStep = 12;
+
+	// The visible part of the content area, clipped by any enclosing ScrollPanelControl.
+	final Rectangle viewport = new Rectangle(0, 0, 0, 0);
+	// How far the laid out children still have to be moved.
+	int pendingScrollX = 0;
+	int pendingScrollY = 0;
+	private boolean backgroundHovered = false;
+	private boolean dragStarting = false;
+	private boolean dragging = false;
+	private int dragMouseX = 0;
+	private int dragMouseY = 0;
+	private int dragScrollX = 0;
+	private int dragScrollY = 0;
+
+	public ScrollPanelControl() {
+		this.id = "scroll_panel";
+	}
+
+	/**
+	 * Sets the size of the area children are laid out in.
+	 * A value of 0 or less matches the space inside this
+	 * Control's padding.
+	 *
+	 * @param contentWidth The width of the content.
+	 * @param contentHeight The height of the content.
+	 */
+	public void setContentSize(int contentWidth, int contentHeight) {
+		this.contentWidth = contentWidth;
+		this.contentHeight = contentHeight;
+		markDirty();
+	}
+
+	public int getContentWidth() {
+		return contentWidth;
+	}
+
+	public int getContentHeight() {
+		return contentHeight;
+	}
+
+	/**
+	 * Sets how far the content is scrolled, in pixels from
+	 * its top left corner. Values are clamped so that the
+	 * content always covers the viewport.
+	 *
+	 * @param scrollX The horizontal offset.
+	 * @param scrollY The vertical offset.
+	 */
+	public void setScroll(int scrollX, int scrollY) {
+		scrollX = Math.max(0, Math.min(scrollX, maxScrollX()));
+		scrollY = Math.max(0, Math.min(scrollY, maxScrollY()));
+
+		if (scrollX != this.scrollX || scrollY != this.scrollY) {
+			pendingScrollX += this.scrollX - scrollX;
+			pendingScrollY += this.scrollY - scrollY;
+			this.scrollX = scrollX;
+			this.scrollY = scrollY;
+			// The RootPanelControl moves the children on its next update.
+			if (layoutValid) invalidateSubtree();
+		}
+	}
+
+	/**
+	 * Scrolls the content by the given number of pixels.
+	 *
+	 * @param x The horizontal amount.
+	 * @param y The vertical amount.
+	 */
+	public void scrollBy(int x, int y) {
+		setScroll(scrollX + x, scrollY + y);
+	}
+
+	public int getScrollX() {
+		return scrollX;
+	}
+
+	public int getScrollY() {
+		return scrollY;
+	}
+
+	/**
+	 * Sets how many pixels one step of the mouse wheel
+	 * scrolls.
+	 *
+	 * @param scrollStep The number of pixels.
+	 */
+	public void setScrollStep(int scrollStep) {
+		this.scrollStep = scrollStep;
+	}
+
+	public int getScrollStep() {
+		return scrollStep;
+	}
+
+	@Override
+	public void onMouseScroll(double horizontal, double vertical) {
+		scrollBy((int) (-horizontal * scrollStep), (int) (-vertical * scrollStep));
+	}
+
+	@Override
+	protected boolean handleInput(InputEvent event) {
+		if (event.getType() != InputEvent.Type.MOUSE_SCROLL) return super.handleInput(event);
+
+		int oldScrollX = scrollX;
+		int oldScrollY = scrollY;
+		onMouseScroll(event.getHorizontal(), event.getVertical());
+
+		// Enclosing panels only scroll once this one can't.
+		return scrollX != oldScrollX || scrollY != oldScrollY;
+	}
+
+	@Override
+	public void onMouseButton(int button, boolean justPressed, boolean released) {
+		if (button != GLFW.GLFW_MOUSE_BUTTON_LEFT) return;
+
+		if (justPressed && backgroundHovered) {
+			dragStarting = true;
+		}
+		else if (released) {
+			dragStarting = false;
+			dragging = false;
+		}
+	}
+
+	@Override
+	protected boolean isInteractiveWhileUnhovered() {
+		return true;
+	}
+
+	@Override
+	protected boolean interact(int mouseX, int mouseY, float deltaTime, boolean captured) {
+		captured = super.interact(mouseX, mouseY, deltaTime, captured);
+		backgroundHovered = captured;
+
+		if (dragStarting) {
+			dragStarting = false;
+			dragging = true;
+			dragMouseX = mouseX;
+			dragMouseY = mouseY;
+			dragScrollX = scrollX;
+			dragScrollY = scrollY;
+		}
+		else if (dragging) {
+			setScroll(dragScrollX + dragMouseX - mouseX, dragScrollY + dragMouseY - mouseY);
+		}
+
+		return captured;
+	}
+
+	@Override
+	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
+		// Laying the children out places them at the current scroll offset.
+		pendingScrollX = 0;
+		pendingScrollY = 0;
+		super.updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
+	}
+
+	@Override
+	protected Rectangle getChildArea(int index) {
+		// The viewport may have been resized since the scroll offset was set.
+		scrollX = Math.max(0, Math.min(scrollX, maxScrollX()));
+		scrollY = Math.max(0, Math.min(scrollY, maxScrollY()));
+
+		childArea.set(
+				trueArea.getX() + leftPadding - scrollX,
+				trueArea.getY() + topPadding - scrollY,
+				Math.max(contentWidth, innerWidth()),
+				Math.max(contentHeight, innerHeight())
+		);
+		return childArea;
+	}
+
+	/**
+	 * Sets the viewport to the area inside this Control's
+	 * padding, clipped to the enclosing clip area. Called
+	 * as soon as this Control's trueArea is known.
+	 *
+	 * @param outer The enclosing clip area, or null.
+	 * @return The viewport.
+	 */
+	Rectangle updateViewport(@Nullable Rectangle outer) {
+		int left = trueArea.getX() + leftPadding;
+		int top = trueArea.getY() + topPadding;
+		int right = left + innerWidth();
+		int bottom = top + innerHeight();
+
+		if (outer != null) {
+			left = Math.max(left, outer.getX());
+			top = Math.max(top, outer.getY());
+			right = Math.min(right, outer.getX() + outer.getWidth());
+			bottom = Math.min(bottom, outer.getY() + outer.getHeight());
+		}
+
+		viewport.set(left, top, Math.max(0, right - left), Math.max(0, bottom - top));
+		return viewport;
+	}
+
+	private int innerWidth() {
+		return Math.max(0, trueArea.getWidth() - leftPadding - rightPadding);
+	}
+
+	private int innerHeight() {
+		return Math.max(0, trueArea.getHeight() - topPadding - bottomPadding);
+	}
+
+	private int maxScrollX() {
+		return Math.max(0, contentWidth - innerWidth());
+	}
+
+	private int maxScrollY() {
+		return Math.max(0, contentHeight - innerHeight());
+	}
+}
@@ -1,6 +1,5 @@
 package io.github.redstoneparadox.oaktree.control;
 
-import io.github.redstoneparadox.oaktree.listeners.ClientListeners;
 import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
 import io.github.redstoneparadox.oaktree.painter.Theme;
 import io.github.redstoneparadox.oaktree.util.Action;
@@ -28,8 +27,6 @@ public class SliderControl extends Control implements MouseButtonListener {
 		label.setFontColor(Color.WHITE);
 		label.setAnchor(Anchor.CENTER);
 		label.setParent(this);
-
-		ClientListeners.MOUSE_BUTTON_LISTENERS.add(this);
 	}
 
 	public void setScrollPercent(float scrollPercent) {
@@ -75,7 +72,7 @@ public class SliderControl extends Control implements MouseButtonListener {
 	@Override
 	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
 		super.updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
-		label.updateTree(zIndexedControls, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), trueArea.getHeight());
+		label.layout(zIndexedControls, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), trueArea.getHeight());
 	}
 
 	@Override
@@ -121,12 +118,6 @@ public class SliderControl extends Control implements MouseButtonListener {
 		theme.get(id, SLIDER).draw(matrices, sliderX, sliderY, sliderWidth, sliderHeight);
 	}
 
-	@Override
-	protected void cleanup() {
-		super.cleanup();
-		ClientListeners.MOUSE_BUTTON_LISTENERS.remove(this);
-	}
-
 	@Override
 	public void onMouseButton(int button, boolean justPressed, boolean released) {
 		if (button == GLFW.GLFW_MOUSE_BUTTON_LEFT) {
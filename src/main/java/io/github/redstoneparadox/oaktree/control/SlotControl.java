@@ -1,13 +1,13 @@
 package io.github.redstoneparadox.oaktree.control;
 
-import io.github.redstoneparadox.oaktree.listeners.ClientListeners;
 import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
+import io.github.redstoneparadox.oaktree.math.Rectangle;
 import io.github.redstoneparadox.oaktree.painter.Theme;
 import io.github.redstoneparadox.oaktree.util.BackingSlot;
 import io.github.redstoneparadox.oaktree.util.Color;
 import io.github.redstoneparadox.oaktree.util.RenderHelper;
+import io.github.redstoneparadox.oaktree.util.TooltipCache;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.item.TooltipContext;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -15,10 +15,9 @@ import net.minecraft.screen.ScreenHandler;
 import net.minecraft.screen.slot.SlotActionType;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.List;
-
 /**
  * <p>A {@link Control} that can be used for interacting
  * with items in an inventory. Requires a
@@ -29,10 +28,13 @@ public class SlotControl extends Control implements MouseButtonListener {
 	protected int slotBorder = 1;
 
 	private final PlayerEntity player;
-	private final BackingSlot slot;
+	private BackingSlot slot;
 	private boolean leftJustClicked = false;
 	private boolean rightJustClicked = false;
 	private boolean highlighted = false;
+	// The cached text last given to the tooltip, and the tooltip it was given to.
+	private @Nullable Text tooltipText = null;
+	private @Nullable Control tooltipLabel = null;
 
 	public SlotControl(PlayerEntity player, BackingSlot slot) {
 		this.player = player;
@@ -50,8 +52,6 @@ public class SlotControl extends Control implements MouseButtonListener {
 
 		this.tooltip = tooltip;
 		this.setSize(18, 18);
-
-		ClientListeners.MOUSE_BUTTON_LISTENERS.add(this);
 	}
 
 	@Override
@@ -60,6 +60,32 @@ public class SlotControl extends Control implements MouseButtonListener {
 		slot.setEnabled(visible);
 	}
 
+	@Override
+	void setVisibleDuringLayout(boolean visible) {
+		super.setVisibleDuringLayout(visible);
+		slot.setEnabled(visible);
+	}
+
+	/**
+	 * Sets the {@link BackingSlot} this SlotControl shows,
+	 * disabling the previous one. Used when a grid reuses
+	 * SlotControls for different slots as it scrolls.
+	 *
+	 * @param slot The new slot.
+	 */
+	public void setSlot(@NotNull BackingSlot slot) {
+		if (this.slot == slot) return;
+
+		this.slot.setEnabled(false);
+		this.slot = slot;
+		slot.setEnabled(visible);
+		repaint();
+	}
+
+	public @NotNull BackingSlot getSlot() {
+		return slot;
+	}
+
 	/**
 	 * Sets what color should be used to highlight this {@link SlotControl}
 	 * when hovering over it in the GUI. Default value is
@@ -86,6 +112,17 @@ public class SlotControl extends Control implements MouseButtonListener {
 	@Override
 	protected void updateTree(RootPanelControl.ZIndexedControls zIndexedControls, int containerX, int containerY, int containerWidth, int containerHeight) {
 		super.updateTree(zIndexedControls, containerX, containerY, containerWidth, containerHeight);
+		placeSlot();
+	}
+
+	@Override
+	protected void onScrolled(@Nullable Rectangle clip) {
+		placeSlot();
+		// A slot scrolled out of view shouldn't take clicks or shift-clicked items.
+		slot.setEnabled(visible && (clip == null || clip.intersects(trueArea)));
+	}
+
+	private void placeSlot() {
 		slot.x = trueArea.getX() + (trueArea.getWidth() - 18)/2;
 		slot.y = trueArea.getY() + (trueArea.getHeight() - 18)/2;
 	}
@@ -114,17 +151,22 @@ public class SlotControl extends Control implements MouseButtonListener {
 
 			if (tooltip != null && tooltip instanceof LabelControl) {
 				if (!slotStack.isEmpty()) {
-					List<Text> texts = slotStack.getTooltip(player, TooltipContext.Default.NORMAL);
-					((LabelControl) tooltip).setText(texts);
-					tooltip.setVisible(true);
+					Text text = TooltipCache.get(slotStack, player, client.options.advancedItemTooltips);
+
+					// Cached text is shared, so the same instance means the label already shows it.
+					if (text != tooltipText || tooltip != tooltipLabel) {
+						((LabelControl) tooltip).setText(text);
+						tooltipText = text;
+						tooltipLabel = tooltip;
+					}
+					tooltip.visible = true;
 				}
 				else {
-					((LabelControl) tooltip).clearText();
-					tooltip.setVisible(false);
+					tooltip.visible = false;
 				}
 			}
 		} else {
-			if (tooltip != null) tooltip.setVisible(false);
+			if (tooltip != null) tooltip.visible = false;
 			highlighted = false;
 		}
 
@@ -151,14 +193,12 @@ public class SlotControl extends Control implements MouseButtonListener {
 		}
 	}
 
-	@Override
-	protected void cleanup() {
-		super.cleanup();
-		ClientListeners.MOUSE_BUTTON_LISTENERS.remove(this);
-	}
-
 	@Override
 	public void onMouseButton(int button, boolean justPressed, boolean released) {
+		// Clicks are only handled in interact while hovered,
+		// so don't hold onto ones that happen elsewhere.
+		if (!highlighted) return;
+
 		if (button == GLFW.GLFW_MOUSE_BUTTON_LEFT && justPressed) {
 			leftJustClicked = true;
 		}
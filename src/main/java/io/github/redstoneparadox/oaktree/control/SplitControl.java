@@ -56,14 +56,14 @@ public class SplitControl extends Control {
 			int bottomY = trueArea.getY() + splitSize;
 			int topHeight = trueArea.getHeight() - splitSize;
 
-			if (first.visible) first.updateTree(zIndexedControls, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), topHeight);
-			if (second.visible) second.updateTree(zIndexedControls, trueArea.getX(), bottomY, trueArea.getWidth(), splitSize);
+			if (first.visible) first.layout(zIndexedControls, trueArea.getX(), trueArea.getY(), trueArea.getWidth(), topHeight);
+			if (second.visible) second.layout(zIndexedControls, trueArea.getX(), bottomY, trueArea.getWidth(), splitSize);
 		} else {
 			int rightX = trueArea.getX() + splitSize;
 			int leftWidth = trueArea.getWidth() - splitSize;
 
-			if (first.visible) first.updateTree(zIndexedControls, trueArea.getX(), trueArea.getY(), leftWidth, trueArea.getHeight());
-			if (second.visible) second.updateTree(zIndexedControls, rightX, trueArea.getY(), splitSize, trueArea.getHeight());
+			if (first.visible) first.layout(zIndexedControls, trueArea.getX(), trueArea.getY(), leftWidth, trueArea.getHeight());
+			if (second.visible) second.layout(zIndexedControls, rightX, trueArea.getY(), splitSize, trueArea.getHeight());
 		}
 	}
 
@@ -0,0 +1,381 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.util.TextHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>The editable text behind a {@link TextEditControl}.</p>
+ *
+ * <p>Text is stored as a list of paragraphs (runs of text
+ * between newlines), each of which remembers how many
+ * wrapped lines it occupies. Edits only touch the
+ * paragraphs they land in and only those paragraphs are
+ * wrapped again; the wrapped lines of the rest of the
+ * document are left as they are.</p>
+ *
+ * <p>The line counts are kept in a Fenwick tree, so
+ * finding the paragraph at a wrapped line takes
+ * logarithmic time. The tree is rebuilt the next time
+ * it is needed whenever paragraphs are added or
+ * removed, which only happens on newlines.</p>
+ *
+ * <p>The wrapped lines are exposed in the same form the
+ * control has always used: every line that ends a
+ * paragraph (other than the last one) ends with
+ * {@code '\n'}.</p>
+ */
+class TextBuffer {
+	private final List<Paragraph> paragraphs = new ArrayList<>();
+	private final List<String> lines = new ArrayList<>();
+	private final List<String> linesView = Collections.unmodifiableList(lines);
+	private float width = 1;
+	private int maxLines = 1;
+	private boolean shadow = false;
+	// Fenwick tree of paragraph line counts, 1-based.
+	private int[] lineIndex = new int[2];
+	private boolean lineIndexValid = false;
+
+	// Scratch results of locate()
+	private int foundParagraph;
+	private int foundOffset;
+
+	TextBuffer() {
+		paragraphs.add(new Paragraph(""));
+		lines.add("");
+	}
+
+	List<String> lines() {
+		return linesView;
+	}
+
+	/**
+	 * Updates the wrapping settings, wrapping the whole
+	 * text again if any of them changed.
+	 */
+	void configure(float width, int maxLines, boolean shadow) {
+		if (this.width == width && this.maxLines == Math.max(1, maxLines) && this.shadow == shadow) return;
+
+		this.width = width;
+		// Nothing could be typed with fewer than one line.
+		this.maxLines = Math.max(1, maxLines);
+		this.shadow = shadow;
+		setText(getText());
+	}
+
+	void setText(String text) {
+		paragraphs.clear();
+		lines.clear();
+		lineIndexValid = false;
+
+		int start = 0;
+		int newline;
+
+		while ((newline = text.indexOf('\n', start)) >= 0) {
+			paragraphs.add(new Paragraph(text.substring(start, newline)));
+			start = newline + 1;
+		}
+		paragraphs.add(new Paragraph(text.substring(start)));
+
+		for (int i = 0; i < paragraphs.size(); i++) {
+			Paragraph paragraph = paragraphs.get(i);
+			List<String> wrapped = wrap(paragraph, i == paragraphs.size() - 1);
+
+			paragraph.lineCount = wrapped.size();
+			lines.addAll(wrapped);
+		}
+
+		enforceMaxLines();
+	}
+
+	String getText() {
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < paragraphs.size(); i++) {
+			if (i > 0) builder.append('\n');
+			builder.append(paragraphs.get(i).text);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Inserts a string at a wrapped line and column.
+	 */
+	void insert(int row, int column, String string) {
+		if (string.isEmpty()) return;
+
+		locate(row, column);
+
+		int index = foundParagraph;
+		int firstRow = firstRow(index);
+		int oldLineCount = paragraphs.get(index).lineCount;
+		Paragraph paragraph = paragraphs.get(index);
+		int newline = string.indexOf('\n');
+
+		if (newline < 0) {
+			paragraph.text.insert(foundOffset, string);
+			rewrap(index, 1, firstRow, oldLineCount);
+			return;
+		}
+
+		// Split the paragraph around the inserted text.
+		lineIndexValid = false;
+		String rest = paragraph.text.substring(foundOffset);
+		paragraph.text.setLength(foundOffset);
+		paragraph.text.append(string, 0, newline);
+
+		int inserted = 1;
+		int start = newline + 1;
+
+		while ((newline = string.indexOf('\n', start)) >= 0) {
+			paragraphs.add(index + inserted, new Paragraph(string.substring(start, newline)));
+			inserted += 1;
+			start = newline + 1;
+		}
+
+		Paragraph last = new Paragraph(string.substring(start));
+		last.text.append(rest);
+		paragraphs.add(index + inserted, last);
+		inserted += 1;
+
+		rewrap(index, inserted, firstRow, oldLineCount);
+	}
+
+	/**
+	 * Deletes the text between two wrapped line and
+	 * column positions.
+	 */
+	void delete(int startRow, int startColumn, int endRow, int endColumn) {
+		locate(endRow, endColumn);
+		int endParagraph = foundParagraph;
+		int endOffset = foundOffset;
+
+		locate(startRow, startColumn);
+		int startParagraph = foundParagraph;
+		int startOffset = foundOffset;
+
+		if (startParagraph == endParagraph && startOffset >= endOffset) return;
+
+		int firstRow = firstRow(startParagraph);
+		int oldLineCount = 0;
+
+		for (int i = startParagraph; i <= endParagraph; i++) {
+			oldLineCount += paragraphs.get(i).lineCount;
+		}
+
+		Paragraph first = paragraphs.get(startParagraph);
+
+		if (startParagraph == endParagraph) {
+			first.text.delete(startOffset, endOffset);
+		}
+		else {
+			Paragraph last = paragraphs.get(endParagraph);
+
+			first.text.setLength(startOffset);
+			first.text.append(last.text, endOffset, last.text.length());
+			paragraphs.subList(startParagraph + 1, endParagraph + 1).clear();
+			lineIndexValid = false;
+		}
+
+		rewrap(startParagraph, 1, firstRow, oldLineCount);
+	}
+
+	/**
+	 * Deletes the character before a wrapped line and
+	 * column position, joining paragraphs when that
+	 * character is a newline.
+	 */
+	void deleteBefore(int row, int column) {
+		locate(row, column);
+
+		int index = foundParagraph;
+		int offset = foundOffset;
+
+		if (offset > 0) {
+			int firstRow = firstRow(index);
+			paragraphs.get(index).text.deleteCharAt(offset - 1);
+			rewrap(index, 1, firstRow, paragraphs.get(index).lineCount);
+		}
+		else if (index > 0) {
+			Paragraph previous = paragraphs.get(index - 1);
+			Paragraph current = paragraphs.get(index);
+			int firstRow = firstRow(index - 1);
+			int oldLineCount = previous.lineCount + current.lineCount;
+
+			previous.text.append(current.text);
+			paragraphs.remove(index);
+			lineIndexValid = false;
+			rewrap(index - 1, 1, firstRow, oldLineCount);
+		}
+	}
+
+	/**
+	 * Finds the paragraph and offset within it that a
+	 * wrapped line and column point to.
+	 */
+	private void locate(int row, int column) {
+		validateLineIndex();
+
+		int size = paragraphs.size();
+		int index = 0;
+		int paragraphRow = 0;
+
+		// Finds how many paragraphs end at or before row.
+		for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+			int next = index + step;
+
+			if (next <= size && paragraphRow + lineIndex[next] <= row) {
+				index = next;
+				paragraphRow += lineIndex[next];
+			}
+		}
+
+		if (index > size - 1) {
+			index = size - 1;
+			paragraphRow -= paragraphs.get(index).lineCount;
+		}
+
+		int offset = column;
+		int lastRow = Math.min(row, lines.size());
+
+		for (int i = paragraphRow; i < lastRow; i++) {
+			offset += lines.get(i).length();
+		}
+
+		Paragraph paragraph = paragraphs.get(index);
+
+		if (offset > paragraph.text.length()) {
+			// Past the newline, so at the start of the next paragraph.
+			if (index < paragraphs.size() - 1) {
+				index += 1;
+				offset = 0;
+			}
+			else {
+				offset = paragraph.text.length();
+			}
+		}
+
+		foundParagraph = index;
+		foundOffset = offset;
+	}
+
+	private int firstRow(int paragraphIndex) {
+		validateLineIndex();
+
+		int row = 0;
+
+		for (int i = paragraphIndex; i > 0; i -= i & -i) {
+			row += lineIndex[i];
+		}
+
+		return row;
+	}
+
+	private void validateLineIndex() {
+		if (lineIndexValid) return;
+
+		int size = paragraphs.size();
+		if (lineIndex.length <= size) lineIndex = new int[Integer.highestOneBit(size) * 2 + 1];
+
+		for (int i = 1; i <= size; i++) {
+			lineIndex[i] = paragraphs.get(i - 1).lineCount;
+		}
+		for (int i = 1; i <= size; i++) {
+			int parent = i + (i & -i);
+			if (parent <= size) lineIndex[parent] += lineIndex[i];
+		}
+
+		lineIndexValid = true;
+	}
+
+	private void setLineCount(int paragraphIndex, int lineCount) {
+		Paragraph paragraph = paragraphs.get(paragraphIndex);
+		int delta = lineCount - paragraph.lineCount;
+
+		paragraph.lineCount = lineCount;
+		if (!lineIndexValid || delta == 0) return;
+
+		for (int i = paragraphIndex + 1; i <= paragraphs.size(); i += i & -i) {
+			lineIndex[i] += delta;
+		}
+	}
+
+	/**
+	 * Wraps a run of paragraphs again and replaces the
+	 * lines they used to occupy.
+	 */
+	private void rewrap(int start, int count, int firstRow, int oldLineCount) {
+		if (count == 1) {
+			List<String> wrapped = wrap(paragraphs.get(start), start == paragraphs.size() - 1);
+			setLineCount(start, wrapped.size());
+
+			if (wrapped.size() == oldLineCount) {
+				// The usual case when typing, which needs no lines moved.
+				for (int i = 0; i < oldLineCount; i++) {
+					lines.set(firstRow + i, wrapped.get(i));
+				}
+			}
+			else {
+				List<String> replaced = lines.subList(firstRow, firstRow + oldLineCount);
+				replaced.clear();
+				replaced.addAll(wrapped);
+			}
+
+			enforceMaxLines();
+			return;
+		}
+
+		List<String> newLines = new ArrayList<>();
+
+		for (int i = start; i < start + count; i++) {
+			List<String> wrapped = wrap(paragraphs.get(i), i == paragraphs.size() - 1);
+
+			setLineCount(i, wrapped.size());
+			newLines.addAll(wrapped);
+		}
+
+		List<String> replaced = lines.subList(firstRow, firstRow + oldLineCount);
+		replaced.clear();
+		replaced.addAll(newLines);
+
+		enforceMaxLines();
+	}
+
+	private List<String> wrap(Paragraph paragraph, boolean last) {
+		List<String> wrapped = TextHelper.wrapLines(paragraph.text.toString(), width, Integer.MAX_VALUE, shadow);
+
+		if (!last) {
+			int index = wrapped.size() - 1;
+			wrapped.set(index, wrapped.get(index) + '\n');
+		}
+
+		return wrapped;
+	}
+
+	private void enforceMaxLines() {
+		if (lines.size() <= maxLines) return;
+
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < maxLines; i++) {
+			builder.append(lines.get(i));
+		}
+
+		int length = builder.length();
+		if (length > 0 && builder.charAt(length - 1) == '\n') builder.setLength(length - 1);
+
+		setText(builder.toString());
+	}
+
+	private static class Paragraph {
+		final StringBuilder text;
+		int lineCount = 1;
+
+		Paragraph(String text) {
+			this.text = new StringBuilder(text);
+		}
+	}
+}
@@ -1,7 +1,7 @@
 package io.github.redstoneparadox.oaktree.control;
 
 import io.github.redstoneparadox.oaktree.listeners.CharTypedListener;
-import io.github.redstoneparadox.oaktree.listeners.ClientListeners;
+import io.github.redstoneparadox.oaktree.listeners.KeyListener;
 import io.github.redstoneparadox.oaktree.listeners.MouseButtonListener;
 import io.github.redstoneparadox.oaktree.painter.Theme;
 import io.github.redstoneparadox.oaktree.util.Action;
@@ -9,13 +9,13 @@ import io.github.redstoneparadox.oaktree.util.Color;
 import io.github.redstoneparadox.oaktree.util.OptionalChar;
 import io.github.redstoneparadox.oaktree.util.RenderHelper;
 import io.github.redstoneparadox.oaktree.util.TextHelper;
+import io.github.redstoneparadox.oaktree.util.TextMesh;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.gui.screen.Screen;
-import com.mojang.blaze3d.platform.InputUtil;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,16 +26,16 @@ import java.util.function.Function;
 /**
  * Work in Progress!
  */
-public class TextEditControl extends Control implements CharTypedListener, MouseButtonListener {
-	private final List<String> lines = new ArrayList<>();
+public class TextEditControl extends Control implements CharTypedListener, KeyListener, MouseButtonListener {
+	private final TextBuffer buffer = new TextBuffer();
+	private final List<String> lines = buffer.lines();
+	private final List<@Nullable String> meshLines = new ArrayList<>();
+	private final List<@Nullable TextMesh> lineMeshes = new ArrayList<>();
+	private @Nullable TextMesh underscoreMesh = null;
+	private @Nullable TextMesh barMesh = null;
 	private int firstLine = 0;
 	private final Cursor cursor = new Cursor(true);
 	private final Selection selection = new Selection();
-	private int backspaceTicks = 0;
-	private int enterTicks = 0;
-	private int arrowKeyTicks = 0;
-	private boolean copied = false;
-	private int pasteTicks = 0;
 	private int cursorTicks = 0;
 	private boolean focused = false;
 	private boolean clicked = false;
@@ -57,7 +57,6 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 
 	public TextEditControl() {
 		this.id = "text_edit";
-		ClientListeners.CHAR_TYPED_LISTENERS.add(this);
 	}
 
 	/**
@@ -119,12 +118,13 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 	}
 
 	/**
-	 * Sets the maximum number of lines.
+	 * Sets the maximum number of lines, which is at
+	 * least 1.
 	 *
 	 * @param maxLines The max number of lines.
 	 */
 	public void setMaxLines(int maxLines) {
-		this.maxLines = maxLines;
+		this.maxLines = Math.max(1, maxLines);
 	}
 
 	public int getMaxLines() {
@@ -173,13 +173,18 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 		this.onFocusLost = onFocusLost;
 	}
 
+	@Override
+	protected boolean isInteractiveWhileUnhovered() {
+		// Focus is tracked in interact.
+		return true;
+	}
+
 	// Abandon hope all Ye who enter here!
 	@Override
 	protected boolean interact(int mouseX, int mouseY, float deltaTime, boolean captured) {
 		captured = super.interact(mouseX, mouseY, deltaTime, captured);
 
 		updateFocused(captured);
-		if (lines.isEmpty()) lines.add("");
 
 		if (focused) {
 			int oldSize = lines.size();
@@ -199,131 +204,16 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 			}
 
 			if (updateText) {
-				lines.clear();
-				lines.addAll(TextHelper.wrapLines(text, area.getWidth(), maxLines, shadow));
+				configureBuffer();
+				buffer.setText(text);
 				selection.cancel();
 				cursor.toEnd();
 				updateText = false;
 				text = "";
 			}
-			long handle = MinecraftClient.getInstance().getWindow().getHandle();
-
-			if (upKey(handle)) {
-				if (arrowKeyTicks == 0 || arrowKeyTicks >= 20 && arrowKeyTicks % 2 == 0) {
-					if (!selection.active && shift(handle)) selection.startHighlighting();
-					cursor.moveUp();
-					selection.moveToCursor(handle);
-				}
-				arrowKeyTicks += 1;
-			}
-			else if (downKey(handle)) {
-				if (arrowKeyTicks == 0 || arrowKeyTicks > 20 && arrowKeyTicks % 2 == 0) {
-					if (!selection.active && shift(handle)) selection.startHighlighting();
-					cursor.moveDown();
-					selection.moveToCursor(handle);
-				}
-				arrowKeyTicks += 1;
-			}
-			else if (leftKey(handle)) {
-				if (arrowKeyTicks == 0 || arrowKeyTicks > 20 && arrowKeyTicks % 2 == 0) {
-					if (!selection.active && shift(handle)) selection.startHighlighting();
-					cursor.moveLeft();
-					selection.moveToCursor(handle);
-				}
-				arrowKeyTicks += 1;
-			}
-			else if (rightKey(handle)) {
-				if (arrowKeyTicks == 0 || arrowKeyTicks > 20 && arrowKeyTicks % 2 == 0) {
-					if (!selection.active && shift(handle)) selection.startHighlighting();
-					cursor.moveRight();
-					selection.moveToCursor(handle);
-				}
-				arrowKeyTicks += 1;
-			}
-			else {
-				arrowKeyTicks = 0;
-			}
-
-			if (backspace(handle)) {
-				if (backspaceTicks == 0 || backspaceTicks > 20 && backspaceTicks % 2 == 0) {
-					if (selection.active) {
-						deleteSelection();
-						cursor.toSelectionStart();
-					}
-					else if (cursor.row != 0 || cursor.column != 0) {
-						removeCharacter();
-						cursor.moveLeft();
-					}
-				}
-				backspaceTicks += 1;
-			}
-			else {
-				backspaceTicks = 0;
-			}
-
-			if (enter(handle)) {
-				if (enterTicks == 0 || enterTicks > 20 && enterTicks % 2 == 0) {
-					onEnter.run();
-					if (selection.active) {
-						deleteSelection();
-						cursor.toSelectionStart();
-					}
-
-					newLine();
-					cursor.moveRight();
-					cursor.moveRight();
-				}
-				enterTicks += 1;
-			}
-			else {
-				enterTicks = 0;
-			}
-
-			if (ctrlA(handle)) {
-				selection.all();
-				cursor.toEnd();
-			}
-
-			if (copy(handle) && selection.active) {
-				if (!copied) {
-					String selectedText = getSelection();
-					if (selectedText != null) MinecraftClient.getInstance().keyboard.setClipboard(selectedText);
-				}
-				copied = true;
-			} else copied = false;
-
-			if (cut(handle)) {
-				if (!copied) {
-					String selectedText = getSelection();
-					if (selectedText != null) MinecraftClient.getInstance().keyboard.setClipboard(selectedText);
-					deleteSelection();
-					cursor.toSelectionStart();
-				}
-				copied = true;
-			} else copied = false;
-
-			if (paste(handle)) {
-				if (pasteTicks == 0 || pasteTicks > 20 && pasteTicks % 2 == 0) {
-					if (selection.active) {
-						deleteSelection();
-						cursor.toSelectionStart();
-					}
-					String st = MinecraftClient.getInstance().keyboard.getClipboard();
-					oldSize = lines.size();
-					insertString(st);
-					for (int i = 0; i < st.length(); i += 1) cursor.moveRight();
-					if (oldSize < lines.size()) cursor.moveRight();
-				}
-				pasteTicks += 1;
-			}
-			else {
-				pasteTicks = 0;
-			}
 		}
 		else {
 			selection.cancel();
-			backspaceTicks = 0;
-			enterTicks = 0;
 		}
 		if (lines.isEmpty() || (lines.size() == 1 && lines.get(0).isEmpty())) {
 			selection.cancel();
@@ -345,56 +235,6 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 		drawText(matrices);
 	}
 
-	@Override
-	protected void cleanup() {
-		super.cleanup();
-		ClientListeners.CHAR_TYPED_LISTENERS.remove(this);
-	}
-
-	private boolean upKey(long handle) {
-		return InputUtil.isKeyPressed(handle, 265);
-	}
-
-	private boolean downKey(long handle) {
-		return InputUtil.isKeyPressed(handle, 264);
-	}
-
-	private boolean leftKey(long handle) {
-		return InputUtil.isKeyPressed(handle, 263);
-	}
-
-	private boolean rightKey(long handle) {
-		return InputUtil.isKeyPressed(handle, 262);
-	}
-
-	private boolean backspace(long handle) {
-		return InputUtil.isKeyPressed(handle, 259);
-	}
-
-	private boolean enter(long handle) {
-		return InputUtil.isKeyPressed(handle, 257);
-	}
-
-	private boolean ctrlA(long handle) {
-		return InputUtil.isKeyPressed(handle, 65) && Screen.isSelectAll(65);
-	}
-
-	private boolean copy(long handle) {
-		return InputUtil.isKeyPressed(handle, 67) && Screen.isCopy(67);
-	}
-
-	private boolean cut(long handle) {
-		return InputUtil.isKeyPressed(handle, 88) && Screen.isCut(88);
-	}
-
-	private boolean paste(long handle) {
-		return InputUtil.isKeyPressed(handle, 86) && Screen.isPaste(86);
-	}
-
-	private boolean shift(long handle) {
-		return InputUtil.isKeyPressed(handle, 344) || InputUtil.isKeyPressed(handle, 340);
-	}
-
 	private void updateFocused(boolean captured) {
 		if (clicked) {
 			if (captured && !focused) {
@@ -411,6 +251,9 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 			else {
 				selection.cancel();
 			}
+
+			// A press is only acted on once, however many frames it is held for.
+			clicked = false;
 		}
 	}
 
@@ -432,79 +275,30 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 	}
 
 	private void deleteSelection() {
-		if (lines.isEmpty()) return;
+		Cursor start = selection.start();
+		Cursor end = selection.end();
 
-		String text = TextHelper.combineStrings(lines, false);
-		int startPosition = getCursorPosition(selection.start());
-		int endPosition = getCursorPosition(selection.end());
-
-		if (startPosition == endPosition) return;
-
-		String newText = text.substring(0, startPosition) + text.substring(endPosition);
-		lines.clear();
-		lines.addAll(TextHelper.wrapLines(newText, area.getWidth(), maxLines, shadow));
+		configureBuffer();
+		buffer.delete(start.row, start.column, end.row, end.column);
 	}
 
 	private void insertCharacter(char c) {
-		if (lines.isEmpty()) {
-			lines.add(String.valueOf(c));
-			return;
-		}
-
-		String text = TextHelper.combineStrings(lines, false);
-		int cursorPosition = getCursorPosition(cursor);
-
-		String newText;
-		if (cursorPosition >= text.length()) {
-			newText = text + c;
-		} else {
-			newText = text.substring(0, cursorPosition) + c + text.substring(cursorPosition);
-		}
-
-		lines.clear();
-		lines.addAll(TextHelper.wrapLines(newText, area.getWidth(), maxLines, shadow));
+		configureBuffer();
+		buffer.insert(cursor.row, cursor.column, String.valueOf(c));
 	}
 
 	private void insertString(String string)  {
-		if (lines.isEmpty()) {
-			lines.addAll(TextHelper.wrapLines(string, area.getWidth(), maxLines, shadow));
-			return;
-		}
-
-		String text = TextHelper.combineStrings(lines, false);
-		int cursorPosition = getCursorPosition(cursor);
-
-		String newText;
-		if (cursorPosition >= text.length()) {
-			newText = text + string;
-		} else {
-			newText = text.substring(0, cursorPosition) + string + text.substring(cursorPosition);
-		}
-
-		lines.clear();
-		lines.addAll(TextHelper.wrapLines(newText, area.getWidth(), maxLines, shadow));
+		configureBuffer();
+		buffer.insert(cursor.row, cursor.column, string);
 	}
 
 	private void removeCharacter() {
-		String text = TextHelper.combineStrings(lines, false);
-		int cursorPosition = getCursorPosition(cursor);
-
-		String newText;
-		if (text.length() <= 1) {
-			newText = "";
-		}
-		else if (cursorPosition == text.length()) {
-			newText = text.substring(0, text.length() - 1);
-		}
-		else if (cursorPosition <= 0) {
-			newText = text.substring(1);
-		}
-		else {
-			newText = text.substring(0, cursorPosition - 1) + text.substring(cursorPosition);
-		}
+		configureBuffer();
+		buffer.deleteBefore(cursor.row, cursor.column);
+	}
 
-		lines.clear();
-		lines.addAll(TextHelper.wrapLines(newText, area.getWidth(), maxLines, shadow));
+	private void configureBuffer() {
+		buffer.configure(area.getWidth(), maxLines, shadow);
 	}
 
 	private int getCursorPosition(Cursor cursor) {
@@ -518,50 +312,90 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 	}
 
 	private void drawText(MatrixStack matrices) {
-		int length = Math.min(lines.size(), displayedLines);
+		int length = Math.min(lines.size() - firstLine, displayedLines);
+
+		// Meshes are kept per visible row, so drop the ones for rows no longer shown.
+		while (lineMeshes.size() > displayedLines) {
+			meshLines.remove(meshLines.size() - 1);
+			lineMeshes.remove(lineMeshes.size() - 1);
+		}
 
 		for (int row = firstLine; row < firstLine + length; row += 1) {
 			String line = lines.get(row);
-			if (line.endsWith("\n")) line = line.substring(0, line.length() - 1);
 			int lineY = trueArea.getY() + (row - firstLine) * TextHelper.getFontHeight();
-			RenderHelper.drawText(matrices, Text.literal(line).asOrderedText(), trueArea.getX(), lineY, shadow, fontColor);
-			drawHighlights(matrices, line, lineY, row);
+			RenderHelper.drawText(matrices, getLineMesh(row - firstLine, line), trueArea.getX(), lineY);
+
+			if (selection.isHighlighted(row)) {
+				int lineLength = line.endsWith("\n") ? line.length() - 1 : line.length();
+				drawHighlights(matrices, line, lineLength, lineY, row);
+			}
 		}
 	}
 
-	private void drawHighlights(MatrixStack matrices, String line, int lineY, int row) {
+	/**
+	 * Gets the baked glyphs for a visible row, making them
+	 * again only when the line shown there or the font
+	 * settings changed. Lines are compared by identity
+	 * since the buffer keeps the strings of lines that
+	 * weren't edited.
+	 */
+	private TextMesh getLineMesh(int visibleRow, String line) {
+		while (meshLines.size() <= visibleRow) {
+			meshLines.add(null);
+			lineMeshes.add(null);
+		}
+
+		TextMesh mesh = lineMeshes.get(visibleRow);
+
+		if (mesh == null || meshLines.get(visibleRow) != line || !mesh.matches(shadow, fontColor)) {
+			String visible = line.endsWith("\n") ? line.substring(0, line.length() - 1) : line;
+
+			mesh = new TextMesh(Text.literal(visible).asOrderedText(), shadow, fontColor);
+			meshLines.set(visibleRow, line);
+			lineMeshes.set(visibleRow, mesh);
+		}
+
+		return mesh;
+	}
+
+	private void drawHighlights(MatrixStack matrices, String line, int lineLength, int lineY, int row) {
 		if (selection.isHighlighted(row)) {
 			int startIndex;
 			if (selection.start().row != row) startIndex = 0;
 			else startIndex = selection.start().column;
 
 			int endIndex;
-			if (selection.end().row != row) endIndex = line.length();
+			if (selection.end().row != row) endIndex = lineLength;
 			else endIndex = selection.end().column;
 
 			if (startIndex == endIndex) return;
 
-			int x = trueArea.getX() + TextHelper.getWidth(line.substring(0, startIndex));
-			String highlightedPortion = line.substring(startIndex, endIndex);
-			RenderHelper.drawRectangle(matrices, x, lineY, TextHelper.getWidth(highlightedPortion), TextHelper.getFontHeight(), highlightColor);
+			int startX = TextHelper.getWidth(line, startIndex);
+			int endX = TextHelper.getWidth(line, endIndex);
+			RenderHelper.drawRectangle(matrices, trueArea.getX() + startX, lineY, endX - startX, TextHelper.getFontHeight(), highlightColor);
 		}
 	}
 
 	private void drawCursor(MatrixStack matrices) {
+		if (underscoreMesh == null || barMesh == null || !underscoreMesh.matches(shadow, fontColor)) {
+			underscoreMesh = new TextMesh(Text.literal("_").asOrderedText(), shadow, fontColor);
+			barMesh = new TextMesh(Text.literal("|").asOrderedText(), shadow, fontColor);
+		}
+
 		if (lines.isEmpty()) {
-			RenderHelper.drawText(matrices, Text.literal("_").asOrderedText(), trueArea.getX(), trueArea.getY(), shadow, fontColor);
+			RenderHelper.drawText(matrices, underscoreMesh, trueArea.getX(), trueArea.getY());
 			return;
 		}
 
 		int actualRow = cursor.row - firstLine;
 		String cursorLine = lines.get(cursor.row);
-		int cursorX = trueArea.getX() + TextHelper.getWidth(cursorLine.substring(0, cursor.column));
+		int cursorX = trueArea.getX() + TextHelper.getWidth(cursorLine, cursor.column);
 		int cursorY = trueArea.getY() + actualRow * TextHelper.getFontHeight();
 
-		String cursorString = "_";
-		if (cursor.row < lines.size() - 1 || cursor.column < cursorLine.length() || lineOccupiesFullSpace(cursorLine)) cursorString = "|";
+		TextMesh cursorMesh = underscoreMesh;
+		if (cursor.row < lines.size() - 1 || cursor.column < cursorLine.length() || lineOccupiesFullSpace(cursorLine)) cursorMesh = barMesh;
 
-		RenderHelper.drawText(matrices, Text.literal(cursorString).asOrderedText(), cursorX, cursorY, shadow, fontColor);
+		RenderHelper.drawText(matrices, cursorMesh, cursorX, cursorY);
 	}
 
 	private boolean lineOccupiesFullSpace(String cursorLine) {
@@ -574,6 +408,88 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 		lastChar = OptionalChar.of(c);
 	}
 
+	@Override
+	public void onKey(int key, int scanCode, int action, int modifiers) {
+		if (!focused || lines.isEmpty() || action == GLFW.GLFW_RELEASE) return;
+
+		boolean repeat = action == GLFW.GLFW_REPEAT;
+		boolean shift = (modifiers & GLFW.GLFW_MOD_SHIFT) != 0;
+		boolean alt = (modifiers & GLFW.GLFW_MOD_ALT) != 0;
+		boolean control = (modifiers & (MinecraftClient.IS_SYSTEM_MAC ? GLFW.GLFW_MOD_SUPER : GLFW.GLFW_MOD_CONTROL)) != 0;
+		boolean shortcut = control && !shift && !alt;
+
+		switch (key) {
+			case GLFW.GLFW_KEY_UP -> moveCursor(shift, cursor::moveUp);
+			case GLFW.GLFW_KEY_DOWN -> moveCursor(shift, cursor::moveDown);
+			case GLFW.GLFW_KEY_LEFT -> moveCursor(shift, cursor::moveLeft);
+			case GLFW.GLFW_KEY_RIGHT -> moveCursor(shift, cursor::moveRight);
+			case GLFW.GLFW_KEY_BACKSPACE -> {
+				if (selection.active) {
+					deleteSelection();
+					cursor.toSelectionStart();
+				}
+				else if (cursor.row != 0 || cursor.column != 0) {
+					removeCharacter();
+					cursor.moveLeft();
+				}
+			}
+			case GLFW.GLFW_KEY_ENTER -> {
+				onEnter.run();
+				if (selection.active) {
+					deleteSelection();
+					cursor.toSelectionStart();
+				}
+
+				newLine();
+				cursor.moveRight();
+				cursor.moveRight();
+			}
+			case GLFW.GLFW_KEY_A -> {
+				if (shortcut && !repeat) {
+					selection.all();
+					cursor.toEnd();
+				}
+			}
+			case GLFW.GLFW_KEY_C -> {
+				if (shortcut && !repeat && selection.active) {
+					String selectedText = getSelection();
+					if (selectedText != null) MinecraftClient.getInstance().keyboard.setClipboard(selectedText);
+				}
+			}
+			case GLFW.GLFW_KEY_X -> {
+				if (shortcut && !repeat && selection.active) {
+					String selectedText = getSelection();
+					if (selectedText != null) MinecraftClient.getInstance().keyboard.setClipboard(selectedText);
+					deleteSelection();
+					cursor.toSelectionStart();
+				}
+			}
+			case GLFW.GLFW_KEY_V -> {
+				if (shortcut) {
+					if (selection.active) {
+						deleteSelection();
+						cursor.toSelectionStart();
+					}
+					String st = MinecraftClient.getInstance().keyboard.getClipboard();
+					int oldSize = lines.size();
+					insertString(st);
+					for (int i = 0; i < st.length(); i += 1) cursor.moveRight();
+					if (oldSize < lines.size()) cursor.moveRight();
+				}
+			}
+		}
+
+		if (lines.size() == 1 && lines.get(0).isEmpty()) {
+			selection.cancel();
+		}
+	}
+
+	private void moveCursor(boolean shift, Action move) {
+		if (!selection.active && shift) selection.startHighlighting();
+		move.run();
+		selection.moveToCursor(shift);
+	}
+
 	@Override
 	public void onMouseButton(int button, boolean justPressed, boolean released) {
 		clicked = justPressed;
@@ -709,9 +625,9 @@ public class TextEditControl extends Control implements CharTypedListener, Mouse
 			return active && ((inverted() && (anchor.row >= row && row >= follower.row)) || (anchor.row <= row && row <= follower.row));
 		}
 
-		private void moveToCursor(long handle) {
+		private void moveToCursor(boolean shift) {
 			if (!active) return;
-			if (shift(handle)) {
+			if (shift) {
 				follower.row = cursor.row;
 				follower.column = cursor.column;
 			}
@@ -0,0 +1,81 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import io.github.redstoneparadox.oaktree.painter.Theme;
+import io.github.redstoneparadox.oaktree.util.RenderHelper;
+import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lays out and draws the tooltip of the hovered
+ * {@link Control} apart from the rest of the tree, so
+ * that showing a tooltip or moving it with the mouse
+ * only lays out the tooltip itself.
+ */
+class TooltipOverlay {
+	private static final int Z_OFFSET = 300;
+	private static final int CURSOR_OFFSET_X = 8;
+	private static final int CURSOR_OFFSET_Y = -16;
+
+	private final RootPanelControl.ZIndexedControls zIndexedControls = new RootPanelControl.ZIndexedControls();
+	private @Nullable Control shown = null;
+	private int x = 0;
+	private int y = 0;
+
+	/**
+	 * Shows the tooltip of the given Control next to the
+	 * mouse, laying it out again only if it is a different
+	 * tooltip, it has changed or the mouse has moved.
+	 *
+	 * @return How many Controls were laid out.
+	 */
+	int update(@Nullable Control hovered, int mouseX, int mouseY, int screenWidth, int screenHeight) {
+		Control tooltip = hovered != null && hovered.tooltip != null && hovered.tooltip.visible ? hovered.tooltip : null;
+
+		if (tooltip == null) {
+			clear();
+			return 0;
+		}
+
+		int x = mouseX + CURSOR_OFFSET_X;
+		int y = mouseY + CURSOR_OFFSET_Y;
+
+		if (tooltip == shown && x == this.x && y == this.y && tooltip.layoutValid && tooltip.subtreeValid) return 0;
+
+		zIndexedControls.clear();
+		zIndexedControls.added = 0;
+		zIndexedControls.addOffset(Z_OFFSET);
+		tooltip.layout(zIndexedControls, x, y, Math.max(1, screenWidth - x), Math.max(1, screenHeight - y));
+		zIndexedControls.moveTooltipsToEnd();
+		tooltip.capture = false;
+
+		shown = tooltip;
+		this.x = x;
+		this.y = y;
+
+		return zIndexedControls.added;
+	}
+
+	void prepare() {
+		for (int i = 0; i < zIndexedControls.size(); i++) {
+			zIndexedControls.get(i).control().prepare();
+		}
+	}
+
+	void draw(MatrixStack matrices, Theme theme) {
+		for (int i = 0; i < zIndexedControls.size(); i++) {
+			RootPanelControl.ZIndexedControls.Entry entry = zIndexedControls.get(i);
+
+			RenderHelper.setzOffset(entry.zOffset());
+			entry.control().draw(matrices, theme);
+		}
+
+		RenderHelper.setzOffset(0);
+	}
+
+	void clear() {
+		if (shown == null) return;
+
+		zIndexedControls.clear();
+		shown = null;
+	}
+}
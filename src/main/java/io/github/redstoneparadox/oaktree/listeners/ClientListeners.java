@@ -1,13 +1,25 @@
 package io.github.redstoneparadox.oaktree.listeners;
 
+import io.github.redstoneparadox.oaktree.control.InputRouter;
+import io.github.redstoneparadox.oaktree.control.RootPanelControl;
+
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Global input listeners. OakTree's own Controls are
+ * sent input by their {@link RootPanelControl} instead,
+ * so these are only for code outside of a Control tree.
+ */
 public class ClientListeners {
 	public static final Set<MouseButtonListener> MOUSE_BUTTON_LISTENERS = new HashSet<>();
 	public static final Set<CharTypedListener> CHAR_TYPED_LISTENERS = new HashSet<>();
+	public static final Set<KeyListener> KEY_LISTENERS = new HashSet<>();
+	public static final Set<MouseScrollListener> MOUSE_SCROLL_LISTENERS = new HashSet<>();
 
 	public static void onMouseButton(int button, boolean justPressed, boolean released) {
+		InputRouter.routeMouseButton(button, justPressed && !released, released);
+
 		for (MouseButtonListener listener: MOUSE_BUTTON_LISTENERS) {
 			if (released) {
 				listener.onMouseButton(button, false, true);
@@ -19,8 +31,26 @@ public class ClientListeners {
 	}
 
 	public static void onCharTyped(char c) {
+		InputRouter.routeCharTyped(c);
+
 		for (CharTypedListener listener: CHAR_TYPED_LISTENERS) {
 			listener.onCharTyped(c);
 		}
 	}
+
+	public static void onKey(int key, int scanCode, int action, int modifiers) {
+		InputRouter.routeKey(key, scanCode, action, modifiers);
+
+		for (KeyListener listener: KEY_LISTENERS) {
+			listener.onKey(key, scanCode, action, modifiers);
+		}
+	}
+
+	public static void onMouseScroll(double horizontal, double vertical) {
+		InputRouter.routeMouseScroll(horizontal, vertical);
+
+		for (MouseScrollListener listener: MOUSE_SCROLL_LISTENERS) {
+			listener.onMouseScroll(horizontal, vertical);
+		}
+	}
 }
@@ -0,0 +1,17 @@
+package io.github.redstoneparadox.oaktree.listeners;
+
+import org.lwjgl.glfw.GLFW;
+
+@FunctionalInterface
+public interface KeyListener {
+	/**
+	 * Called when a key is pressed, repeated or released.
+	 *
+	 * @param key The GLFW key code.
+	 * @param scanCode The platform-specific scan code.
+	 * @param action One of {@link GLFW#GLFW_PRESS}, {@link GLFW#GLFW_REPEAT}
+	 *               or {@link GLFW#GLFW_RELEASE}.
+	 * @param modifiers The GLFW modifier bits held during the event.
+	 */
+	void onKey(int key, int scanCode, int action, int modifiers);
+}
@@ -0,0 +1,12 @@
+package io.github.redstoneparadox.oaktree.listeners;
+
+@FunctionalInterface
+public interface MouseScrollListener {
+	/**
+	 * Called when the mouse wheel or trackpad scrolls.
+	 *
+	 * @param horizontal The horizontal amount, positive to the right.
+	 * @param vertical The vertical amount, positive upwards.
+	 */
+	void onMouseScroll(double horizontal, double vertical);
+}
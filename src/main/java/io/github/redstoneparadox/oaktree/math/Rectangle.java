@@ -16,10 +16,25 @@ public class Rectangle {
 		this.height = height;
 	}
 
+	public void set(int x, int y, int width, int height) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
 	public boolean isPointWithin(int pointX, int pointY) {
 		return pointX >= x && pointY >= y && pointX <= x + width && pointY <= y + height;
 	}
 
+	/**
+	 * @return Whether this and the other Rectangle share
+	 * any area.
+	 */
+	public boolean intersects(Rectangle other) {
+		return x < other.x + other.width && other.x < x + width && y < other.y + other.height && other.y < y + height;
+	}
+
 	public Rectangle offset(int offsetX, int offsetY) {
 		return new Rectangle(x + offsetX, y + offsetY, width, height);
 	}
@@ -3,7 +3,10 @@ package io.github.redstoneparadox.oaktree.mixin.client;
 import io.github.redstoneparadox.oaktree.hooks.KeyboardHooks;
 import io.github.redstoneparadox.oaktree.listeners.ClientListeners;
 import net.minecraft.client.Keyboard;
+import net.minecraft.client.MinecraftClient;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -14,8 +17,17 @@ import java.util.function.Consumer;
 
 @Mixin(Keyboard.class)
 public abstract class MixinKeyboard implements KeyboardHooks {
+	@Shadow @Final private MinecraftClient client;
+
 	private final Collection<Consumer<Character>> charTypedListeners = new ArrayList<>();
 
+	@Inject(method = "onKey", at = @At("HEAD"))
+	private void onKey(long window, int key, int scanCode, int action, int modifiers, CallbackInfo ci) {
+		if (window == client.getWindow().getHandle()) {
+			ClientListeners.onKey(key, scanCode, action, modifiers);
+		}
+	}
+
 	@Inject(method = "onChar", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/gui/screen/Screen;wrapScreenError(Ljava/lang/Runnable;Ljava/lang/String;Ljava/lang/String;)V"))
 	private void onChar(long window, int i, int j, CallbackInfo ci) {
 		ClientListeners.onCharTyped((char) i);
@@ -0,0 +1,22 @@
+package io.github.redstoneparadox.oaktree.mixin.client;
+
+import io.github.redstoneparadox.oaktree.control.RootTracker;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(MinecraftClient.class)
+public abstract class MixinMinecraftClient {
+	@Shadow @Nullable public Screen currentScreen;
+
+	// Screen#removed is often overridden without calling super, so hook where it is called instead.
+	@Inject(method = "setScreen", at = @At("HEAD"))
+	private void setScreen(@Nullable Screen screen, CallbackInfo ci) {
+		if (currentScreen != null) RootTracker.onScreenRemoved(currentScreen);
+	}
+}
@@ -41,6 +41,11 @@ public abstract class MixinMouse implements MouseHooks {
 		}
 	}
 
+	@Inject(method = "onMouseScroll", at = @At("HEAD"))
+	private void onMouseScroll(long window, double horizontal, double vertical, CallbackInfo ci) {
+		ClientListeners.onMouseScroll(horizontal, vertical);
+	}
+
 	@Override
 	public boolean leftButton() {
 		return leftButton;
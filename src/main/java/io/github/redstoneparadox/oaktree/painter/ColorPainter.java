@@ -29,6 +29,16 @@ public class ColorPainter extends Painter {
 		RenderHelper.drawRectangle(matrices, x, y, width, height, color);
 	}
 
+	@Override
+	public boolean isOpaque() {
+		return color.alpha >= 1.0f;
+	}
+
+	@Override
+	public int getOverdraw() {
+		return borderColor != null ? borderWidth : 0;
+	}
+
 	@Override
 	public ColorPainter copy() {
 		return new ColorPainter(color, borderColor, borderWidth);
@@ -1,7 +1,11 @@
 package io.github.redstoneparadox.oaktree.painter;
 
+import io.github.redstoneparadox.oaktree.util.RenderHelper;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 public class NinePatchPainter extends TexturePainter {
 	int firstWidth = 1;
@@ -12,6 +16,12 @@ public class NinePatchPainter extends TexturePainter {
 	int secondHeight = 1;
 	int thirdHeight = 1;
 
+	// Quads making up the patch at each size, relative to its origin, least recently drawn first.
+	private static final int MAX_MESHES = 64;
+	private final Int2ObjectLinkedOpenHashMap<float[]> meshes = new Int2ObjectLinkedOpenHashMap<>();
+	private final FloatArrayList recordingBuffer = new FloatArrayList();
+	private @Nullable FloatArrayList recording = null;
+
 	public NinePatchPainter(String path) {
 		super(path);
 	}
@@ -24,12 +34,26 @@ public class NinePatchPainter extends TexturePainter {
 		this.firstWidth = firstWidth;
 		this.secondWidth = secondWidth;
 		this.thirdWidth = thirdWidth;
+		meshes.clear();
 	}
 
 	public void setHeights(int firstHeight, int secondHeight, int thirdHeight) {
 		this.firstHeight = firstHeight;
 		this.secondHeight = secondHeight;
 		this.thirdHeight = thirdHeight;
+		meshes.clear();
+	}
+
+	@Override
+	public void setDrawOrigin(int left, int top) {
+		super.setDrawOrigin(left, top);
+		meshes.clear();
+	}
+
+	@Override
+	public void setFileDimensions(int fileWidth, int fileHeight) {
+		super.setFileDimensions(fileWidth, fileHeight);
+		meshes.clear();
 	}
 
 	@Override
@@ -51,6 +75,50 @@ public class NinePatchPainter extends TexturePainter {
 
 	@Override
 	public void draw(MatrixStack matrices, int x, int y, int width, int height) {
+		int key = (width << 16) | (height & 0xFFFF);
+		float[] mesh = meshes.getAndMoveToLast(key);
+
+		if (mesh == null) {
+			// Only the least recently drawn size is dropped, so the sizes in use stay cached.
+			if (meshes.size() >= MAX_MESHES) meshes.removeFirst();
+
+			recording = recordingBuffer;
+			recording.clear();
+			drawPatches(matrices, 0, 0, width, height);
+			mesh = recording.toFloatArray();
+			recording = null;
+
+			meshes.putAndMoveToLast(key, mesh);
+		}
+
+		for (int i = 0; i < mesh.length; i += 8) {
+			RenderHelper.drawTexturedQuad(
+					matrices,
+					(x + mesh[i]) * scale, (y + mesh[i + 1]) * scale, (x + mesh[i + 2]) * scale, (y + mesh[i + 3]) * scale,
+					mesh[i + 4], mesh[i + 5], mesh[i + 6], mesh[i + 7],
+					texture, tint
+			);
+		}
+	}
+
+	@Override
+	void drawTexture(MatrixStack matrices, float x, float y, float left, float top, float width, float height) {
+		if (recording == null) {
+			super.drawTexture(matrices, x, y, left, top, width, height);
+			return;
+		}
+
+		recording.add(x);
+		recording.add(y);
+		recording.add(x + width);
+		recording.add(y + height);
+		recording.add(left/fileWidth);
+		recording.add(top/fileHeight);
+		recording.add((left + width)/fileWidth);
+		recording.add((top + height)/fileHeight);
+	}
+
+	private void drawPatches(MatrixStack matrices, int x, int y, int width, int height) {
 		int fullSecondWidth = width - firstWidth - thirdWidth;
 		int fullSecondHeight = height - firstHeight - thirdHeight;
 
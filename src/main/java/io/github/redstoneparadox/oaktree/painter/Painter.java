@@ -37,5 +37,27 @@ public abstract class Painter {
 
 	}
 
+	/**
+	 * Whether this Painter fills every pixel of any area it
+	 * is drawn in with a fully opaque color, so that
+	 * whatever is beneath that area can be skipped.
+	 *
+	 * @return true if this Painter is opaque.
+	 */
+	public boolean isOpaque() {
+		return false;
+	}
+
+	/**
+	 * How far outside the area it is given this Painter
+	 * may draw, so that Controls aren't skipped while part
+	 * of what they draw is still on screen.
+	 *
+	 * @return The overdraw in pixels on each side.
+	 */
+	public int getOverdraw() {
+		return 0;
+	}
+
 	public abstract Painter copy();
 }
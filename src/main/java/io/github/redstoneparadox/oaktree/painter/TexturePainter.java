@@ -3,7 +3,6 @@ package io.github.redstoneparadox.oaktree.painter;
 import io.github.redstoneparadox.oaktree.math.Vector2;
 import io.github.redstoneparadox.oaktree.util.Color;
 import io.github.redstoneparadox.oaktree.util.RenderHelper;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
 
@@ -92,8 +91,6 @@ public class TexturePainter extends Painter {
 
 	@Override
 	public void draw(MatrixStack matrices, int x, int y, int width, int height) {
-		MinecraftClient.getInstance().getTextureManager().bindTexture(texture);
-
 		if (!tiled) {
 			int drawWidth = Math.min(width, textureWidth);
 			int drawHeight = Math.min(height, textureHeight);
@@ -120,6 +117,13 @@ public class TexturePainter extends Painter {
 	}
 
 	void drawTiled(MatrixStack matrices, float x, float y, int left, int top, int drawWidth, int drawHeight, int width, int height) {
+		if (left == 0 && top == 0 && drawWidth == fileWidth && drawHeight == fileHeight) {
+			// The tile is the whole texture, so let the texture repeat
+			// across a single quad instead of drawing each tile.
+			drawTexture(matrices, x, y, 0, 0, width, height);
+			return;
+		}
+
 		int remainingWidth = width;
 		int remainingHeight = height;
 
@@ -6,41 +6,369 @@ import io.github.redstoneparadox.oaktree.control.SliderControl;
 import io.github.redstoneparadox.oaktree.control.SlotControl;
 import io.github.redstoneparadox.oaktree.control.TextEditControl;
 import io.github.redstoneparadox.oaktree.util.Color;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * <p>The {@link Painter} used for each id and
+ * {@link Control.PainterKey}. A Theme can be derived from
+ * another one, in which case it only holds the painters
+ * put into it and falls back to its parent for the rest.
+ * Deriving copies nothing until the derived Theme is
+ * first drawn with.</p>
+ *
+ * <p>A frozen Theme can no longer be modified and is safe
+ * to share between any number of GUIs, such as
+ * {@link #sharedVanilla()}. Freezing doesn't copy the
+ * painters themselves, so painters gotten from a frozen
+ * Theme, or a Theme derived from one, must not be
+ * changed; put a copy of one into a derived Theme
+ * instead.</p>
+ *
+ * <p>The first time a Theme is drawn with after it
+ * changes, the texture regions its painters read are
+ * stitched into an atlas, as described in
+ * {@link #buildAtlas()}.</p>
+ */
 public class Theme {
-	private final Map<String, Map<Control.PainterKey, Painter>> painters = new HashMap<>();
+	// Ids are interned into dense slots shared by every Theme.
+	private static final Object2IntOpenHashMap<String> ID_SLOTS = new Object2IntOpenHashMap<>();
+	private static int nextVersion = 0;
+	// Bumped when resources reload, making every atlas out of date.
+	private static int atlasGeneration = 0;
+	private static @Nullable Theme sharedVanilla = null;
+
+	private @Nullable Theme parent;
+	// The painters put into this Theme, indexed by id slot, then by PainterKey index.
+	private Painter[][] overrides = new Painter[0][];
+	// The overrides laid over the parent's painters. Shared with the parent while there are no overrides.
+	private @Nullable Painter[][] resolved = null;
+	private int parentVersion = -1;
+	private boolean frozen = false;
+	private int version = nextVersion++;
+	// The resolved painters with those that could be atlased replaced, or null if none could.
+	private @Nullable Painter[][] atlased = null;
+	private int atlasVersion = -1;
+	private int atlasBuiltGeneration = -1;
+
+	static {
+		ID_SLOTS.defaultReturnValue(-1);
+	}
 
 	public Theme() {
+		this(null);
+	}
+
+	private Theme(@Nullable Theme parent) {
+		this.parent = parent;
 	}
 
 	public void put(String id, Control.PainterKey painterKey, @NotNull Painter painter) {
-		painters.computeIfAbsent(id, s -> new HashMap<>()).put(painterKey, painter);
+		checkNotFrozen();
+
+		int slot = ID_SLOTS.getInt(id);
+
+		if (slot < 0) {
+			slot = ID_SLOTS.size();
+			ID_SLOTS.put(id, slot);
+		}
+
+		putOverride(slot, painterKey.getIndex(), painter);
+		modified();
 	}
 
+	/**
+	 * Gets the painter for an id and key. If this Theme is
+	 * frozen or derived from another, the painter may be
+	 * shared and must not be changed.
+	 *
+	 * @return The painter, or {@link Painter#BLANK}.
+	 */
 	public @NotNull Painter get(String id, Control.PainterKey painterKey) {
-		if (painters.containsKey(id)) {
-			Map<Control.PainterKey, Painter> subMap = painters.get(id);
+		checkParent();
+		Painter[][] painters = atlased != null ? atlased : resolve();
+		int slot = ID_SLOTS.getInt(id);
+		if (slot < 0 || slot >= painters.length) return Painter.BLANK;
+
+		Painter[] row = painters[slot];
+		int index = painterKey.getIndex();
+		if (row == null || index >= row.length || row[index] == null) return Painter.BLANK;
+
+		return row[index];
+	}
+
+	/**
+	 * Gets a number that changes every time this Theme
+	 * or a Theme it was derived from is modified. Versions
+	 * are never shared between Themes, so a cached
+	 * {@link Painter} can be checked against this alone.
+	 *
+	 * @return The current version.
+	 */
+	public int getVersion() {
+		checkParent();
+		return version;
+	}
+
+	/**
+	 * Creates a Theme that uses the painters of this one
+	 * wherever it hasn't been given its own. Changes made
+	 * to this Theme afterwards are seen by the derived
+	 * one, unless this Theme is frozen.
+	 *
+	 * @return The derived Theme.
+	 */
+	public Theme derive() {
+		return new Theme(this);
+	}
+
+	/**
+	 * Stops this Theme from being modified any further so
+	 * that it can be shared. A Theme derived from one that
+	 * isn't frozen stops following it.
+	 *
+	 * @return This Theme.
+	 */
+	public Theme freeze() {
+		if (frozen) return this;
+
+		if (parent != null && !parent.frozen) {
+			Painter[][] painters = resolve();
+			overrides = new Painter[painters.length][];
+
+			for (int i = 0; i < painters.length; i++) {
+				if (painters[i] != null) overrides[i] = painters[i].clone();
+			}
+			parent = null;
+			modified();
+		}
+
+		frozen = true;
+		return this;
+	}
+
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * <p>Stitches every region of a texture read by the
+	 * {@link TexturePainter} and {@link NinePatchPainter}
+	 * instances in this Theme into a single texture and
+	 * draws those painters from it, so that a GUI using
+	 * this Theme can be drawn from one texture.</p>
+	 *
+	 * <p>This is done automatically the first time the
+	 * Theme is drawn with after it changes or resources
+	 * reload, so calling it is only needed to build the
+	 * atlas ahead of time. Must be called on the render
+	 * thread after resources have loaded. Painters whose
+	 * texture isn't the size given by
+	 * {@link TexturePainter#setFileDimensions} are left
+	 * as they are. The painters put into the Theme are
+	 * never changed, and {@link #get} returns their
+	 * atlased copies.</p>
+	 */
+	public void buildAtlas() {
+		atlasBuiltGeneration = -1;
+		updateAtlas();
+	}
+
+	/**
+	 * Builds the atlas if this Theme changed or resources
+	 * reloaded since it was last built. Called by
+	 * {@link io.github.redstoneparadox.oaktree.control.RootPanelControl}
+	 * before drawing, on the render thread.
+	 */
+	@ApiStatus.Internal
+	public void updateAtlas() {
+		int current = getVersion();
+		if (atlasVersion == current && atlasBuiltGeneration == atlasGeneration) return;
+
+		Painter[][] previous = atlased;
+
+		if (parent != null && overrides.length == 0) {
+			// Nothing of its own to stitch, so share the parent's atlas.
+			parent.updateAtlas();
+			atlased = parent.atlased;
+		}
+		else {
+			atlased = stitch(resolve());
+		}
+
+		atlasBuiltGeneration = atlasGeneration;
+		// Controls cache painters by version, so they pick up the atlased copies.
+		if (atlased != previous) version = nextVersion++;
+		atlasVersion = version;
+	}
+
+	/**
+	 * Marks every atlas as out of date, so that each
+	 * Theme builds its atlas again the next time it is
+	 * drawn with. Called when resources reload.
+	 */
+	@ApiStatus.Internal
+	public static void invalidateAtlases() {
+		atlasGeneration += 1;
+		ThemeAtlas.clear();
+	}
+
+	private @Nullable Painter[][] stitch(Painter[][] painters) {
+		List<TexturePainter> sources = new ArrayList<>();
+
+		for (Painter[] row: painters) {
+			if (row == null) continue;
+
+			for (Painter painter: row) {
+				if (painter instanceof TexturePainter texturePainter) sources.add(texturePainter);
+			}
+		}
 
-			if (subMap.containsKey(painterKey)) {
-				return subMap.get(painterKey);
+		Map<TexturePainter, TexturePainter> replacements = ThemeAtlas.build(sources);
+		if (replacements.isEmpty()) return null;
+
+		Painter[][] stitched = new Painter[painters.length][];
+
+		for (int slot = 0; slot < painters.length; slot++) {
+			Painter[] row = painters[slot];
+			if (row == null) continue;
+
+			stitched[slot] = row.clone();
+
+			for (int i = 0; i < row.length; i++) {
+				TexturePainter replacement = row[i] instanceof TexturePainter texturePainter ? replacements.get(texturePainter) : null;
+				if (replacement != null) stitched[slot][i] = replacement;
 			}
-			return Painter.BLANK;
 		}
 
-		return Painter.BLANK;
+		return stitched;
 	}
 
+	/**
+	 * Creates a Theme with the same painters as this one
+	 * that doesn't follow it or any Theme it was derived
+	 * from. Prefer {@link #derive()}, which copies nothing.
+	 *
+	 * @return The copy.
+	 */
 	public Theme copy() {
+		Painter[][] painters = resolve();
 		Theme copy = new Theme();
-		copy.painters.putAll(this.painters);
+		copy.overrides = new Painter[painters.length][];
+
+		for (int i = 0; i < painters.length; i++) {
+			if (painters[i] != null) copy.overrides[i] = painters[i].clone();
+		}
 		return copy;
 	}
 
+	/**
+	 * Gets a Theme matching vanilla Minecraft's GUIs that
+	 * can be modified. It is derived from
+	 * {@link #sharedVanilla()}, so its painters are shared
+	 * and must be copied before they are changed.
+	 *
+	 * @return A new vanilla Theme.
+	 */
 	public static Theme vanilla() {
+		return sharedVanilla().derive();
+	}
+
+	/**
+	 * Gets the frozen Theme matching vanilla Minecraft's
+	 * GUIs, which is built once and shared by every GUI
+	 * that doesn't set a Theme of its own.
+	 *
+	 * @return The shared vanilla Theme.
+	 */
+	public static Theme sharedVanilla() {
+		if (sharedVanilla == null) sharedVanilla = createVanilla().freeze();
+		return sharedVanilla;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) throw new IllegalStateException("A frozen Theme can't be modified; use derive() to get one that can be.");
+	}
+
+	private void modified() {
+		resolved = null;
+		atlased = null;
+		version = nextVersion++;
+	}
+
+	private void checkParent() {
+		if (parent == null || parent.frozen) return;
+
+		int current = parent.getVersion();
+
+		if (current != parentVersion) {
+			parentVersion = current;
+			modified();
+		}
+	}
+
+	private Painter[][] resolve() {
+		checkParent();
+		if (resolved != null) return resolved;
+
+		if (parent == null) {
+			resolved = overrides;
+			return resolved;
+		}
+
+		Painter[][] inherited = parent.resolve();
+
+		if (overrides.length == 0) {
+			resolved = inherited;
+			return resolved;
+		}
+
+		Painter[][] painters = Arrays.copyOf(inherited, Math.max(inherited.length, overrides.length));
+
+		for (int slot = 0; slot < overrides.length; slot++) {
+			Painter[] own = overrides[slot];
+			if (own == null) continue;
+
+			Painter[] row = painters[slot];
+			row = row == null ? new Painter[own.length] : Arrays.copyOf(row, Math.max(row.length, own.length));
+
+			for (int i = 0; i < own.length; i++) {
+				if (own[i] != null) row[i] = own[i];
+			}
+			painters[slot] = row;
+		}
+
+		resolved = painters;
+		return resolved;
+	}
+
+	private void putOverride(int slot, int index, Painter painter) {
+		if (slot >= overrides.length) {
+			overrides = Arrays.copyOf(overrides, slot + 1);
+		}
+
+		Painter[] row = overrides[slot];
+
+		if (row == null) {
+			row = new Painter[index + 1];
+			overrides[slot] = row;
+		}
+		else if (index >= row.length) {
+			row = Arrays.copyOf(row, index + 1);
+			overrides[slot] = row;
+		}
+
+		row[index] = painter;
+	}
+
+	private static Theme createVanilla() {
 		Theme vanilla = new Theme();
 
 		NinePatchPainter ninePatchUI = new NinePatchPainter("oaktree:textures/gui/ui.png");
@@ -0,0 +1,220 @@
+package io.github.redstoneparadox.oaktree.painter;
+
+import com.mojang.blaze3d.texture.NativeImage;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.client.texture.TextureManager;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>Stitches the texture regions used by the
+ * {@link TexturePainter} instances in a {@link Theme}
+ * into a single texture.</p>
+ *
+ * <p>Atlases are kept by the set of regions they hold,
+ * so Themes that read the same regions, such as one
+ * built again each time a Screen opens, share a single
+ * texture and only read their textures once. All of them
+ * are released when resources reload.</p>
+ */
+final class ThemeAtlas {
+	private static final int PADDING = 1;
+	private static final int MIN_SIZE = 256;
+	// Null where none of the regions could be stitched.
+	private static final Map<Set<Region>, @Nullable Atlas> ATLASES = new HashMap<>();
+	private static int nextId = 0;
+
+	private ThemeAtlas() {}
+
+	/**
+	 * Gets the atlas holding the regions read by the given
+	 * painters, stitching it if no Theme has used those
+	 * regions yet.
+	 *
+	 * @param sources The painters to stitch, which are
+	 *                left unchanged.
+	 * @return The atlased copy of each painter that could
+	 * be stitched, keyed by the painter it replaces.
+	 */
+	static Map<TexturePainter, TexturePainter> build(List<TexturePainter> sources) {
+		Map<TexturePainter, Region> painterRegions = new HashMap<>();
+
+		for (TexturePainter painter: sources) {
+			Region region = regionOf(painter);
+			if (region != null) painterRegions.put(painter, region);
+		}
+
+		if (painterRegions.isEmpty()) return Map.of();
+
+		Set<Region> regions = Set.copyOf(painterRegions.values());
+		Atlas atlas;
+
+		if (ATLASES.containsKey(regions)) {
+			atlas = ATLASES.get(regions);
+		}
+		else {
+			atlas = stitch(regions);
+			ATLASES.put(regions, atlas);
+		}
+
+		if (atlas == null) return Map.of();
+
+		Map<TexturePainter, TexturePainter> atlased = new HashMap<>();
+
+		for (Map.Entry<TexturePainter, Region> entry: painterRegions.entrySet()) {
+			Placement placement = atlas.placements().get(entry.getValue());
+			if (placement == null) continue;
+
+			TexturePainter copy = entry.getKey().copy();
+			copy.texture = atlas.id();
+			copy.setDrawOrigin(placement.left(), placement.top());
+			copy.setFileDimensions(atlas.width(), atlas.height());
+			atlased.put(entry.getKey(), copy);
+		}
+
+		return atlased;
+	}
+
+	/**
+	 * Releases every atlas texture. Themes stitch their
+	 * atlas again the next time they are drawn with.
+	 */
+	static void clear() {
+		TextureManager textureManager = MinecraftClient.getInstance().getTextureManager();
+
+		for (Atlas atlas: ATLASES.values()) {
+			if (atlas != null) textureManager.destroyTexture(atlas.id());
+		}
+
+		ATLASES.clear();
+	}
+
+	private static @Nullable Atlas stitch(Set<Region> candidates) {
+		ResourceManager resourceManager = MinecraftClient.getInstance().getResourceManager();
+		Map<Identifier, @Nullable NativeImage> images = new HashMap<>();
+		Map<Region, Placement> placements = new HashMap<>();
+		List<Region> regions = new ArrayList<>();
+
+		try {
+			for (Region region: candidates) {
+				if (!images.containsKey(region.texture)) images.put(region.texture, load(resourceManager, region.texture));
+				NativeImage image = images.get(region.texture);
+
+				// Regions are in file units, so only textures at their nominal size can be copied as-is.
+				if (image == null || image.getWidth() != region.fileWidth || image.getHeight() != region.fileHeight) continue;
+				if (region.left + region.width > image.getWidth() || region.top + region.height > image.getHeight()) continue;
+
+				regions.add(region);
+			}
+
+			if (regions.isEmpty()) return null;
+
+			// Shelf packing, tallest regions first.
+			regions.sort(Comparator.comparingInt((Region region) -> region.height).reversed());
+
+			int width = MIN_SIZE;
+			for (Region region: regions) {
+				while (region.width + 2 * PADDING > width) width *= 2;
+			}
+
+			int x = 0;
+			int y = 0;
+			int shelfHeight = 0;
+
+			for (Region region: regions) {
+				int paddedWidth = region.width + 2 * PADDING;
+				int paddedHeight = region.height + 2 * PADDING;
+
+				if (x + paddedWidth > width) {
+					x = 0;
+					y += shelfHeight;
+					shelfHeight = 0;
+				}
+
+				placements.put(region, new Placement(x + PADDING, y + PADDING));
+				x += paddedWidth;
+				shelfHeight = Math.max(shelfHeight, paddedHeight);
+			}
+
+			int height = MIN_SIZE;
+			while (height < y + shelfHeight) height *= 2;
+
+			NativeImage atlas = new NativeImage(width, height, true);
+
+			for (Region region: regions) {
+				Placement placement = placements.get(region);
+				NativeImage image = images.get(region.texture);
+
+				image.copyRect(atlas, region.left, region.top, placement.left() - region.left, placement.top() - region.top, region.width, region.height, false, false);
+			}
+
+			Identifier id = new Identifier("oaktree", "atlas/" + nextId++);
+			MinecraftClient.getInstance().getTextureManager().registerTexture(id, new NativeImageBackedTexture(atlas));
+
+			return new Atlas(id, width, height, placements);
+		}
+		finally {
+			for (NativeImage image: images.values()) {
+				if (image != null) image.close();
+			}
+		}
+	}
+
+	/**
+	 * Gets the part of its texture a painter reads from,
+	 * or null if it doesn't read from one or shouldn't be
+	 * atlased.
+	 */
+	private static @Nullable Region regionOf(TexturePainter painter) {
+		int width;
+		int height;
+
+		if (painter instanceof NinePatchPainter ninePatch) {
+			// The right column is offset by secondHeight, so cover that as well.
+			width = ninePatch.firstWidth + Math.max(ninePatch.secondWidth, ninePatch.secondHeight) + ninePatch.thirdWidth;
+			height = ninePatch.firstHeight + ninePatch.secondHeight + ninePatch.thirdHeight;
+		}
+		else {
+			// Tiling the whole file draws as one repeating quad, which only works from its own texture.
+			if (painter.tiled && painter.left == 0 && painter.top == 0 && painter.textureWidth == painter.fileWidth && painter.textureHeight == painter.fileHeight) return null;
+
+			width = painter.textureWidth;
+			height = painter.textureHeight;
+		}
+
+		if (width <= 0 || height <= 0 || painter.left < 0 || painter.top < 0) return null;
+
+		return new Region(painter.texture, painter.left, painter.top, width, height, painter.fileWidth, painter.fileHeight);
+	}
+
+	private static @Nullable NativeImage load(ResourceManager resourceManager, Identifier texture) {
+		Optional<Resource> resource = resourceManager.getResource(texture);
+		if (resource.isEmpty()) return null;
+
+		try (InputStream stream = resource.get().open()) {
+			return NativeImage.read(stream);
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private record Region(Identifier texture, int left, int top, int width, int height, int fileWidth, int fileHeight) {}
+
+	private record Placement(int left, int top) {}
+
+	private record Atlas(Identifier id, int width, int height, Map<Region, Placement> placements) {}
+}
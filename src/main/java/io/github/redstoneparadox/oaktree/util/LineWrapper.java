@@ -0,0 +1,217 @@
+package io.github.redstoneparadox.oaktree.util;
+
+import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.MinecraftClient;
+
+import java.util.Arrays;
+
+/**
+ * <p>Breaks strings into lines that fit within a given
+ * width.</p>
+ *
+ * <p>Glyph advances are looked up once per code point
+ * and cached, and the width of the current line is kept
+ * as a running sum, so wrapping is linear in the length
+ * of the string. Results are reported as break offsets
+ * rather than copied substrings.</p>
+ *
+ * <p>Legacy formatting codes ({@code §} and the
+ * character after it) take up no width, and text after
+ * {@code §l} is widened the way the vanilla renderer
+ * widens bold text, until a color code or {@code §r}.</p>
+ */
+public class LineWrapper {
+	private static final char FORMATTING_PREFIX = '\u00a7';
+	// How much wider the vanilla renderer draws each bold glyph.
+	private static final float BOLD_OFFSET = 1.0f;
+
+	private static LineWrapper vanilla = null;
+
+	private final WidthFunction widthFunction;
+	private final float[] basicWidths = new float[Character.MAX_VALUE + 1];
+	private final Int2FloatOpenHashMap supplementaryWidths = new Int2FloatOpenHashMap();
+
+	public LineWrapper(WidthFunction widthFunction) {
+		this.widthFunction = widthFunction;
+		clearCache();
+	}
+
+	/**
+	 * @return A LineWrapper that measures glyphs with the
+	 * vanilla text renderer.
+	 */
+	public static LineWrapper getVanilla() {
+		if (vanilla == null) {
+			vanilla = new LineWrapper(codePoint -> MinecraftClient.getInstance().textRenderer.getTextHandler().getWidth(Character.toString(codePoint)));
+		}
+
+		return vanilla;
+	}
+
+	/**
+	 * Clears all cached glyph widths. Should be called
+	 * whenever the font may have changed.
+	 */
+	public void clearCache() {
+		Arrays.fill(basicWidths, Float.NaN);
+		supplementaryWidths.clear();
+	}
+
+	/**
+	 * Gets the advance of a single code point.
+	 *
+	 * @param codePoint The code point.
+	 * @return The advance.
+	 */
+	public float getWidth(int codePoint) {
+		if (codePoint <= Character.MAX_VALUE) {
+			float width = basicWidths[codePoint];
+
+			if (Float.isNaN(width)) {
+				width = widthFunction.getWidth(codePoint);
+				basicWidths[codePoint] = width;
+			}
+
+			return width;
+		}
+
+		if (!supplementaryWidths.containsKey(codePoint)) {
+			supplementaryWidths.put(codePoint, widthFunction.getWidth(codePoint));
+		}
+
+		return supplementaryWidths.get(codePoint);
+	}
+
+	/**
+	 * Measures the start of a string without copying it.
+	 *
+	 * @param string The string to measure.
+	 * @param end The exclusive end offset of the part to
+	 *            measure.
+	 * @return The width of the string up to {@code end}.
+	 */
+	public float getWidth(String string, int end) {
+		float width = 0;
+		boolean bold = false;
+
+		int index = 0;
+		while (index < end) {
+			int codePoint = string.codePointAt(index);
+			int next = index + Character.charCount(codePoint);
+
+			if (codePoint == FORMATTING_PREFIX) {
+				if (next < string.length()) bold = applyFormatting(string.charAt(next), bold);
+				index = next + 1;
+				continue;
+			}
+
+			width += getWidth(codePoint);
+			if (bold) width += BOLD_OFFSET;
+
+			index = next;
+		}
+
+		return width;
+	}
+
+	/**
+	 * <p>Wraps a string, writing the exclusive end offset
+	 * of each line into {@code breaks}. A line that ends
+	 * with a newline includes it.</p>
+	 *
+	 * <p>When breaking at words, lines are broken after the
+	 * last space that fits where possible and between
+	 * characters otherwise.</p>
+	 *
+	 * @param string The string to wrap.
+	 * @param width The maximum width of a line.
+	 * @param words Whether to prefer breaking at word
+	 *              boundaries.
+	 * @param breaks The list to write the line ends to.
+	 *               It is cleared first.
+	 * @return The number of lines.
+	 */
+	public int wrap(String string, float width, boolean words, IntArrayList breaks) {
+		breaks.clear();
+
+		int length = string.length();
+		int lineStart = 0;
+		float lineWidth = 0;
+		// Position just after the last space on the line and the line's width up to it.
+		int wordBreak = -1;
+		float wordBreakWidth = 0;
+		boolean bold = false;
+
+		int index = 0;
+		while (index < length) {
+			int codePoint = string.codePointAt(index);
+			int next = index + Character.charCount(codePoint);
+
+			if (codePoint == '\n') {
+				breaks.add(next);
+				lineStart = next;
+				lineWidth = 0;
+				wordBreak = -1;
+				index = next;
+				continue;
+			}
+
+			if (codePoint == FORMATTING_PREFIX) {
+				// The code is skipped along with the prefix, so a line never breaks between them.
+				if (next < length) bold = applyFormatting(string.charAt(next), bold);
+				index = Math.min(next + 1, length);
+				continue;
+			}
+
+			float advance = getWidth(codePoint);
+			if (bold) advance += BOLD_OFFSET;
+
+			if (lineWidth + advance > width && index > lineStart) {
+				if (words && wordBreak > lineStart) {
+					breaks.add(wordBreak);
+					lineStart = wordBreak;
+					lineWidth -= wordBreakWidth;
+				}
+				else {
+					breaks.add(index);
+					lineStart = index;
+					lineWidth = 0;
+				}
+				wordBreak = -1;
+			}
+
+			lineWidth += advance;
+
+			if (codePoint == ' ') {
+				wordBreak = next;
+				wordBreakWidth = lineWidth;
+			}
+
+			index = next;
+		}
+
+		breaks.add(length);
+		RenderStats.wrappedLineCount += breaks.size();
+		return breaks.size();
+	}
+
+	/**
+	 * @return Whether text is bold after the given
+	 * formatting code.
+	 */
+	private static boolean applyFormatting(char code, boolean bold) {
+		char lower = Character.toLowerCase(code);
+
+		if (lower == 'l') return true;
+		// Colors reset every other format, as does reset itself.
+		if (lower == 'r' || (lower >= '0' && lower <= '9') || (lower >= 'a' && lower <= 'f')) return false;
+
+		return bold;
+	}
+
+	@FunctionalInterface
+	public interface WidthFunction {
+		float getWidth(int codePoint);
+	}
+}
@@ -0,0 +1,172 @@
+package io.github.redstoneparadox.oaktree.util;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferRenderer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexFormats;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Matrix4f;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * <p>Collects textured and solid-color quads into a
+ * shared buffer and submits them in as few draw calls
+ * as possible. Quads are flushed whenever the texture
+ * or shader they need differs from the quads already
+ * buffered, so the number of draw calls scales with the
+ * number of state changes rather than the number of
+ * quads.</p>
+ *
+ * <p>{@link TextMesh} glyphs are collected the same way,
+ * so consecutive meshes are drawn together. Anything
+ * that draws through another path (items, plain text,
+ * etc.) must call {@link #flush()} first so that draw
+ * order is preserved; {@link RenderHelper} takes care of
+ * this for its own methods.</p>
+ */
+@ApiStatus.Internal
+public class QuadBatcher {
+	private final BufferBuilder buffer = new BufferBuilder(2048);
+	private final VertexConsumerProvider.Immediate text = VertexConsumerProvider.immediate(new BufferBuilder(256));
+	private boolean textPending = false;
+	private boolean active = false;
+	private Mode mode = Mode.NONE;
+	private @Nullable Identifier texture = null;
+	private boolean accumulateAlpha = false;
+
+	/**
+	 * Starts a new batch. Must be paired with {@link #end()}.
+	 */
+	public void begin() {
+		active = true;
+		mode = Mode.NONE;
+		texture = null;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	/**
+	 * Sets whether quads add to the alpha already drawn
+	 * rather than replacing it, which is needed when
+	 * drawing into a transparent offscreen target.
+	 *
+	 * @param accumulateAlpha The value.
+	 */
+	public void setAccumulateAlpha(boolean accumulateAlpha) {
+		flush();
+		this.accumulateAlpha = accumulateAlpha;
+	}
+
+	public void texturedQuad(Matrix4f model, float x1, float y1, float x2, float y2, float z, float u1, float v1, float u2, float v2, Identifier texture, Color tint) {
+		prepare(Mode.TEXTURED, texture);
+		RenderStats.quadCount += 1;
+
+		buffer.vertex(model, x1, y2, z).uv(u1, v2).color(tint.red, tint.green, tint.blue, tint.alpha).next();
+		buffer.vertex(model, x2, y2, z).uv(u2, v2).color(tint.red, tint.green, tint.blue, tint.alpha).next();
+		buffer.vertex(model, x2, y1, z).uv(u2, v1).color(tint.red, tint.green, tint.blue, tint.alpha).next();
+		buffer.vertex(model, x1, y1, z).uv(u1, v1).color(tint.red, tint.green, tint.blue, tint.alpha).next();
+	}
+
+	public void coloredQuad(Matrix4f model, float x1, float y1, float x2, float y2, float z, Color color) {
+		prepare(Mode.COLORED, null);
+		RenderStats.quadCount += 1;
+
+		buffer.vertex(model, x1, y2, z).color(color.red, color.green, color.blue, color.alpha).next();
+		buffer.vertex(model, x2, y2, z).color(color.red, color.green, color.blue, color.alpha).next();
+		buffer.vertex(model, x2, y1, z).color(color.red, color.green, color.blue, color.alpha).next();
+		buffer.vertex(model, x1, y1, z).color(color.red, color.green, color.blue, color.alpha).next();
+	}
+
+	/**
+	 * Buffers the glyphs of a {@link TextMesh}. Quads
+	 * buffered before it are submitted first.
+	 */
+	public void text(TextMesh mesh, Matrix4f model, float x, float y) {
+		if (mode != Mode.NONE) flush();
+
+		mesh.replay(text, model, x, y);
+		textPending = true;
+	}
+
+	/**
+	 * Submits all buffered quads and text.
+	 */
+	public void flush() {
+		// Quads and text are never pending at the same time, so the order here doesn't matter.
+		if (textPending) {
+			text.draw();
+			textPending = false;
+		}
+
+		if (mode == Mode.NONE) return;
+
+		RenderSystem.enableBlend();
+		if (accumulateAlpha) {
+			RenderSystem.blendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
+		}
+		else {
+			RenderSystem.defaultBlendFunc();
+		}
+		RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
+		RenderStats.shaderChangeCount += 1;
+
+		if (mode == Mode.TEXTURED) {
+			RenderStats.textureBindCount += 1;
+			RenderSystem.setShader(GameRenderer::getPositionTexColorShader);
+			RenderSystem.setShaderTexture(0, Objects.requireNonNull(texture));
+			BufferRenderer.drawWithShader(buffer.end());
+		}
+		else {
+			RenderSystem.disableTexture();
+			RenderSystem.setShader(GameRenderer::getPositionColorShader);
+			BufferRenderer.drawWithShader(buffer.end());
+			RenderSystem.enableTexture();
+		}
+
+		RenderSystem.defaultBlendFunc();
+		RenderSystem.disableBlend();
+
+		mode = Mode.NONE;
+		texture = null;
+	}
+
+	/**
+	 * Flushes any remaining quads and ends the batch.
+	 */
+	public void end() {
+		flush();
+		active = false;
+		accumulateAlpha = false;
+	}
+
+	private void prepare(Mode mode, @Nullable Identifier texture) {
+		if (this.mode == mode && Objects.equals(this.texture, texture)) return;
+
+		flush();
+
+		if (mode == Mode.TEXTURED) {
+			buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE_COLOR);
+		}
+		else {
+			buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
+		}
+
+		this.mode = mode;
+		this.texture = texture;
+	}
+
+	private enum Mode {
+		NONE,
+		TEXTURED,
+		COLORED
+	}
+}
@@ -16,15 +16,57 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.text.OrderedText;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Matrix4f;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class RenderHelper {
 	private static float zOffset = 0.0f;
+	private static @Nullable QuadBatcher batcher = null;
 
 	public static void setzOffset(double zOffset) {
 		RenderHelper.zOffset = (float) zOffset;
 	}
 
+	/**
+	 * Routes all quads drawn through this class into the
+	 * passed {@link QuadBatcher} until {@link #endBatch()}
+	 * is called.
+	 *
+	 * @param batcher The batcher to draw into.
+	 */
+	@ApiStatus.Internal
+	public static void beginBatch(@NotNull QuadBatcher batcher) {
+		RenderHelper.batcher = batcher;
+		batcher.begin();
+	}
+
+	/**
+	 * Submits any quads that have been batched so far. Call
+	 * this before drawing anything that doesn't go through
+	 * this class.
+	 */
+	public static void flushBatch() {
+		if (batcher != null) batcher.flush();
+	}
+
+	/**
+	 * Sets whether batched quads add to the alpha already
+	 * drawn, for drawing into offscreen layers.
+	 *
+	 * @param accumulateAlpha The value.
+	 */
+	@ApiStatus.Internal
+	public static void setAccumulateAlpha(boolean accumulateAlpha) {
+		if (batcher != null) batcher.setAccumulateAlpha(accumulateAlpha);
+	}
+
+	@ApiStatus.Internal
+	public static void endBatch() {
+		if (batcher != null) batcher.end();
+		batcher = null;
+	}
+
 	public static void drawRectangle(MatrixStack matrices, int x, int y, int width, int height, @NotNull Color color) {
 		int r = (int) (color.red * 255.0f);
 		int g = (int) (color.green * 255.0f);
@@ -33,13 +75,24 @@ public class RenderHelper {
 
 		int c = (a << 24) + (r << 16) + (g << 8) + b;
 
-		if (width >= 1 && height >= 1) DrawableHelper.fill(matrices, x, y, x + width, y + height, c);
+		if (width < 1 || height < 1) return;
+
+		if (batcher != null) {
+			batcher.coloredQuad(matrices.peek().getPosition(), x, y, x + width, y + height, zOffset, color);
+		}
+		else {
+			DrawableHelper.fill(matrices, x, y, x + width, y + height, c);
+			RenderStats.quadCount += 1;
+			RenderStats.shaderChangeCount += 1;
+		}
 	}
 
 	public static void drawItemStackCentered(int x, int y, int width, int height, ItemStack stack) {
 		int offsetX = width/2 - 8;
 		int offsetY = height/2 - 8;
 
+		flushBatch();
+
 		ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
 		TextRenderer textRenderer = MinecraftClient.getInstance().textRenderer;
 
@@ -52,11 +105,29 @@ public class RenderHelper {
 	}
 
 	public static void drawTexture(MatrixStack matrices, float x, float y, float left, float top, float width, float height, float fileWidth, float fileHeight, float scale, Identifier texture, Color tint) {
+		float u1 = left/fileWidth;
+		float u2 = (left + width)/fileWidth;
+		float v1 = top/fileHeight;
+		float v2 = (top + height)/fileHeight;
+
+		drawTexturedQuad(matrices, x * scale, y * scale, (x + width) * scale, (y + height) * scale, u1, v1, u2, v2, texture, tint);
+	}
+
+	/**
+	 * Draws a textured quad with the given corners and
+	 * texture coordinates.
+	 */
+	public static void drawTexturedQuad(MatrixStack matrices, float x1, float y1, float x2, float y2, float u1, float v1, float u2, float v2, Identifier texture, Color tint) {
 		float r = (tint.red);
 		float g = (tint.green);
 		float b = (tint.blue);
 		float a = (tint.alpha);
 
+		if (batcher != null) {
+			batcher.texturedQuad(matrices.peek().getPosition(), x1, y1, x2, y2, zOffset, u1, v1, u2, v2, texture, tint);
+			return;
+		}
+
 		Tessellator tessellator = Tessellator.getInstance();
 		BufferBuilder bufferBuilder = tessellator.getBufferBuilder();
 		Matrix4f model = matrices.peek().getPosition();
@@ -66,11 +137,6 @@ public class RenderHelper {
 		RenderSystem.setShaderColor(r, g, b, a);
 		RenderSystem.setShader(GameRenderer::getPositionTexShader);
 
-		float u1 = left/fileWidth;
-		float u2 = (left + width)/fileWidth;
-		float v1 = top/fileHeight;
-		float v2 = (top + height)/fileHeight;
-
 		/*
 		RenderSystem.blendFuncSeparate(
 				GlStateManager.SrcFactor.SRC_COLOR.value,
@@ -82,23 +148,24 @@ public class RenderHelper {
 
 		bufferBuilder.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
 
-		bufferBuilder.vertex(model, x * scale, (y + height) * scale, zOffset).uv(u1, v2).next();
-		bufferBuilder.vertex(model, (x + width) * scale, (y + height) * scale, zOffset).uv(u2, v2).next();
-		bufferBuilder.vertex(model, (x + width) * scale, y * scale, zOffset).uv(u2, v1).next();
-		bufferBuilder.vertex(model, x * scale, y * scale, zOffset).uv(u1, v1).next();
+		bufferBuilder.vertex(model, x1, y2, zOffset).uv(u1, v2).next();
+		bufferBuilder.vertex(model, x2, y2, zOffset).uv(u2, v2).next();
+		bufferBuilder.vertex(model, x2, y1, zOffset).uv(u2, v1).next();
+		bufferBuilder.vertex(model, x1, y1, zOffset).uv(u1, v1).next();
 
 		BufferRenderer.drawWithShader(bufferBuilder.end());
 		RenderSystem.disableBlend();
+
+		RenderStats.quadCount += 1;
+		RenderStats.textureBindCount += 1;
+		RenderStats.shaderChangeCount += 1;
 	}
 
 	public static void drawText(MatrixStack matrices, OrderedText text, int x, int y, boolean shadow, Color fontColor) {
-		TextRenderer renderer = MinecraftClient.getInstance().textRenderer;
-
-		int redInt = (int) fontColor.red * 255;
-		int greenInt = (int) fontColor.green * 255;
-		int blueInt = (int) fontColor.blue * 255;
+		flushBatch();
 
-		int colorInt = redInt << 16 | greenInt << 8 | blueInt;
+		TextRenderer renderer = MinecraftClient.getInstance().textRenderer;
+		int colorInt = toColorInt(fontColor);
 
 		matrices.translate(0.0, 0.0, zOffset);
 
@@ -110,4 +177,29 @@ public class RenderHelper {
 
 		matrices.translate(0.0, 0.0, -zOffset);
 	}
+
+	/**
+	 * Draws a {@link TextMesh} at the same position
+	 * {@link #drawText} would draw its text.
+	 */
+	public static void drawText(MatrixStack matrices, TextMesh mesh, int x, int y) {
+		matrices.translate(0.0, 0.0, zOffset);
+
+		if (batcher != null) {
+			batcher.text(mesh, matrices.peek().getPosition(), x + 4, y + 4);
+		}
+		else {
+			mesh.draw(matrices, x + 4, y + 4);
+		}
+
+		matrices.translate(0.0, 0.0, -zOffset);
+	}
+
+	static int toColorInt(Color fontColor) {
+		int redInt = (int) fontColor.red * 255;
+		int greenInt = (int) fontColor.green * 255;
+		int blueInt = (int) fontColor.blue * 255;
+
+		return redInt << 16 | greenInt << 8 | blueInt;
+	}
 }
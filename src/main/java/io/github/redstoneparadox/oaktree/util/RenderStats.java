@@ -0,0 +1,152 @@
+package io.github.redstoneparadox.oaktree.util;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * <p>What a single frame of a
+ * {@link io.github.redstoneparadox.oaktree.control.RootPanelControl}
+ * cost. The same instance is filled in again every frame,
+ * so values should be copied out if they are needed
+ * after the frame they were recorded in.</p>
+ *
+ * <p>Quads, texture binds and shader changes only count
+ * what is issued through {@link RenderHelper}; text and
+ * items are drawn by Minecraft and aren't included.</p>
+ */
+public final class RenderStats {
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	// Counted wherever the work is done, between beginFrame and endFrame.
+	static int quadCount = 0;
+	static int textureBindCount = 0;
+	static int shaderChangeCount = 0;
+	static int wrappedLineCount = 0;
+
+	private long layoutNanos = 0;
+	private int relaidOutControls = 0;
+	private long interactNanos = 0;
+	private long drawNanos = 0;
+	private int quads = 0;
+	private int textureBinds = 0;
+	private int shaderChanges = 0;
+	private int wrappedLines = 0;
+	private long allocatedBytes = -1;
+	private long allocationStart = -1;
+
+	/**
+	 * Resets the counters for a new frame.
+	 */
+	@ApiStatus.Internal
+	public void beginFrame() {
+		layoutNanos = 0;
+		relaidOutControls = 0;
+		interactNanos = 0;
+		drawNanos = 0;
+		quadCount = 0;
+		textureBindCount = 0;
+		shaderChangeCount = 0;
+		wrappedLineCount = 0;
+		allocationStart = threadAllocatedBytes();
+	}
+
+	/**
+	 * Collects the counters for the frame.
+	 */
+	@ApiStatus.Internal
+	public void endFrame() {
+		quads = quadCount;
+		textureBinds = textureBindCount;
+		shaderChanges = shaderChangeCount;
+		wrappedLines = wrappedLineCount;
+
+		long allocationEnd = threadAllocatedBytes();
+		allocatedBytes = allocationStart >= 0 && allocationEnd >= 0 ? allocationEnd - allocationStart : -1;
+	}
+
+	@ApiStatus.Internal
+	public void recordLayout(long nanos, int controls) {
+		layoutNanos += nanos;
+		relaidOutControls += controls;
+	}
+
+	@ApiStatus.Internal
+	public void recordInteract(long nanos) {
+		interactNanos += nanos;
+	}
+
+	@ApiStatus.Internal
+	public void recordDraw(long nanos) {
+		drawNanos += nanos;
+	}
+
+	public long getLayoutNanos() {
+		return layoutNanos;
+	}
+
+	/**
+	 * @return How many Controls were laid out, which is
+	 * 0 on frames where nothing changed.
+	 */
+	public int getRelaidOutControls() {
+		return relaidOutControls;
+	}
+
+	public long getInteractNanos() {
+		return interactNanos;
+	}
+
+	public long getDrawNanos() {
+		return drawNanos;
+	}
+
+	public int getQuads() {
+		return quads;
+	}
+
+	public int getTextureBinds() {
+		return textureBinds;
+	}
+
+	public int getShaderChanges() {
+		return shaderChanges;
+	}
+
+	public int getWrappedLines() {
+		return wrappedLines;
+	}
+
+	/**
+	 * @return The bytes allocated on the render thread
+	 * during the frame, or -1 if the JVM doesn't track
+	 * allocations per thread.
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return "RenderStats{" +
+				"layoutNanos=" + layoutNanos +
+				", relaidOutControls=" + relaidOutControls +
+				", interactNanos=" + interactNanos +
+				", drawNanos=" + drawNanos +
+				", quads=" + quads +
+				", textureBinds=" + textureBinds +
+				", shaderChanges=" + shaderChanges +
+				", wrappedLines=" + wrappedLines +
+				", allocatedBytes=" + allocatedBytes +
+				'}';
+	}
+
+	private static long threadAllocatedBytes() {
+		if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+			return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+
+		return -1;
+	}
+}
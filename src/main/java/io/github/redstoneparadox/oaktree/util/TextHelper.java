@@ -1,5 +1,6 @@
 package io.github.redstoneparadox.oaktree.util;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.text.MutableText;
@@ -33,6 +34,18 @@ public class TextHelper {
 
 	public static int getWidth(String string) { return MinecraftClient.getInstance().textRenderer.getWidth(string); }
 
+	/**
+	 * Gets the width of the start of a string without
+	 * making a substring.
+	 *
+	 * @param string The string.
+	 * @param end The exclusive end of the part to measure.
+	 * @return The width.
+	 */
+	public static int getWidth(String string, int end) {
+		return (int) Math.ceil(LineWrapper.getVanilla().getWidth(string, end));
+	}
+
 	public static Text combine(List<Text> texts, boolean newline) {
 		if (texts.isEmpty()) return Text.literal("");
 
@@ -59,12 +72,16 @@ public class TextHelper {
 	}
 
 	public static List<String> wrapLines(String string, float width, int max, boolean withShadow) {
+		return wrapLines(string, width, max, withShadow, false);
+	}
+
+	public static List<String> wrapLines(String string, float width, int max, boolean withShadow, boolean words) {
 		List<String> strings;
 		if (withShadow) {
-			strings = wrapLines(string, (int) (width - 1));
+			strings = wrapLines(string, (int) (width - 1), words);
 		}
 		else {
-			strings = wrapLines(string, (int) (width));
+			strings = wrapLines(string, (int) (width), words);
 		}
 
 		if (strings.size() > max) {
@@ -74,26 +91,18 @@ public class TextHelper {
 		return strings;
 	}
 
-	private static List<String> wrapLines(String string, int width) {
-		TextRenderer textRenderer = MinecraftClient.getInstance().textRenderer;
-		List<String> strings = new ArrayList<>();
-		StringBuilder builder = new StringBuilder();
+	private static List<String> wrapLines(String string, int width, boolean words) {
+		IntArrayList breaks = new IntArrayList();
+		int lineCount = LineWrapper.getVanilla().wrap(string, width, words, breaks);
+		List<String> strings = new ArrayList<>(lineCount);
+		int start = 0;
 
-		for (char c: string.toCharArray()) {
-			if (c == '\n') {
-				builder.append('\n');
-				strings.add(builder.toString());
-				builder.setLength(0);
-				continue;
-			};
-			if (textRenderer.getWidth(builder.toString() + c) > width) {
-				strings.add(builder.toString());
-				builder.setLength(0);
-			}
-			builder.append(c);
+		for (int i = 0; i < lineCount; i++) {
+			int end = breaks.getInt(i);
+			strings.add(string.substring(start, end));
+			start = end;
 		}
 
-		strings.add(builder.toString());
 		return strings;
 	}
 
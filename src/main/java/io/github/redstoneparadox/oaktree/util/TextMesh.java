@@ -0,0 +1,199 @@
+package io.github.redstoneparadox.oaktree.util;
+
+import com.mojang.blaze3d.vertex.Tessellator;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.LightmapTextureManager;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.OrderedText;
+import net.minecraft.util.math.Matrix4f;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A line of text whose glyph quads have been
+ * generated once and can be drawn again without going
+ * through the text renderer. Color and shadow are baked
+ * in, so a new TextMesh is needed when either changes.</p>
+ *
+ * <p>Meshes are generated again the next time they are
+ * drawn after {@link #invalidateAll()}, which is
+ * called whenever fonts are reloaded.</p>
+ */
+public final class TextMesh {
+	private static int generation = 0;
+
+	private final OrderedText text;
+	private final boolean shadow;
+	private final Color color;
+	private final List<RenderLayer> layers = new ArrayList<>();
+	private final List<Recorder> recorders = new ArrayList<>();
+	private int bakedGeneration = -1;
+
+	public TextMesh(OrderedText text, boolean shadow, Color color) {
+		this.text = text;
+		this.shadow = shadow;
+		this.color = color;
+	}
+
+	/**
+	 * Marks every TextMesh as out of date.
+	 */
+	public static void invalidateAll() {
+		generation += 1;
+	}
+
+	/**
+	 * @return Whether this mesh was made with the given
+	 * text, shadow and color.
+	 */
+	public boolean matches(OrderedText text, boolean shadow, Color color) {
+		return this.text == text && this.shadow == shadow && this.color.equals(color);
+	}
+
+	/**
+	 * @return Whether this mesh was made with the given
+	 * shadow and color.
+	 */
+	public boolean matches(boolean shadow, Color color) {
+		return this.shadow == shadow && this.color.equals(color);
+	}
+
+	/**
+	 * Draws the text with its top left corner at the given
+	 * position.
+	 */
+	public void draw(MatrixStack matrices, float x, float y) {
+		VertexConsumerProvider.Immediate immediate = VertexConsumerProvider.immediate(Tessellator.getInstance().getBufferBuilder());
+
+		replay(immediate, matrices.peek().getPosition(), x, y);
+		immediate.draw();
+	}
+
+	/**
+	 * Adds the glyph quads to the given provider without
+	 * drawing them, so that several meshes can be drawn
+	 * together.
+	 */
+	void replay(VertexConsumerProvider provider, Matrix4f model, float x, float y) {
+		if (bakedGeneration != generation) bake();
+
+		for (int i = 0; i < layers.size(); i++) {
+			recorders.get(i).replay(provider.getBuffer(layers.get(i)), model, x, y);
+		}
+	}
+
+	private void bake() {
+		layers.clear();
+		recorders.clear();
+
+		VertexConsumerProvider provider = layer -> {
+			int index = layers.indexOf(layer);
+
+			if (index < 0) {
+				layers.add(layer);
+				recorders.add(new Recorder());
+				index = layers.size() - 1;
+			}
+
+			return recorders.get(index);
+		};
+
+		Matrix4f identity = new Matrix4f();
+		identity.loadIdentity();
+
+		MinecraftClient.getInstance().textRenderer.draw(text, 0, 0, RenderHelper.toColorInt(color), shadow, identity, provider, false, 0, LightmapTextureManager.MAX_LIGHT_COORDINATE);
+		bakedGeneration = generation;
+	}
+
+	/**
+	 * Stores the vertices the text renderer emits for one
+	 * {@link RenderLayer}.
+	 */
+	private static final class Recorder implements VertexConsumer {
+		// x, y, z, u, v per vertex
+		private final FloatArrayList floats = new FloatArrayList();
+		// color, light per vertex
+		private final IntArrayList ints = new IntArrayList();
+		private int color = 0xFFFFFFFF;
+		private int light = 0;
+		private float u = 0;
+		private float v = 0;
+		private float x = 0;
+		private float y = 0;
+		private float z = 0;
+
+		void replay(VertexConsumer consumer, Matrix4f model, float offsetX, float offsetY) {
+			for (int i = 0, j = 0; i < floats.size(); i += 5, j += 2) {
+				int c = ints.getInt(j);
+
+				consumer.vertex(model, floats.getFloat(i) + offsetX, floats.getFloat(i + 1) + offsetY, floats.getFloat(i + 2))
+						.color(c >> 16 & 0xFF, c >> 8 & 0xFF, c & 0xFF, c >>> 24)
+						.uv(floats.getFloat(i + 3), floats.getFloat(i + 4))
+						.light(ints.getInt(j + 1))
+						.next();
+			}
+		}
+
+		@Override
+		public VertexConsumer vertex(double x, double y, double z) {
+			this.x = (float) x;
+			this.y = (float) y;
+			this.z = (float) z;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			color = alpha << 24 | red << 16 | green << 8 | blue;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv(float u, float v) {
+			this.u = u;
+			this.v = v;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlay(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer light(int u, int v) {
+			light = u & 0xFFFF | v << 16;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			return this;
+		}
+
+		@Override
+		public void next() {
+			floats.add(x);
+			floats.add(y);
+			floats.add(z);
+			floats.add(u);
+			floats.add(v);
+			ints.add(color);
+			ints.add(light);
+		}
+
+		@Override
+		public void fixedColor(int red, int green, int blue, int alpha) {
+		}
+
+		@Override
+		public void unfixColor() {
+		}
+	}
+}
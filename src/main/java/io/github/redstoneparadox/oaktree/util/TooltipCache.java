@@ -0,0 +1,65 @@
+package io.github.redstoneparadox.oaktree.util;
+
+import net.minecraft.client.item.TooltipContext;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>Caches the combined tooltip text of item stacks so
+ * that items with expensive tooltips only build them
+ * once. Stacks share an entry when they have the same
+ * item, count and NBT, and the same text instance is
+ * returned for them, so anything that caches by text
+ * identity keeps working.</p>
+ *
+ * <p>The cache is cleared whenever resources are
+ * reloaded, which includes changing the language.</p>
+ */
+public final class TooltipCache {
+	private static final int MAX_ENTRIES = 256;
+	private static final Map<Key, Text> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Text> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private TooltipCache() {}
+
+	/**
+	 * Gets the tooltip of the given stack with its lines
+	 * combined into a single {@link Text}.
+	 *
+	 * @param stack The stack.
+	 * @param player The player the tooltip is for.
+	 * @param advanced Whether advanced tooltips are shown.
+	 * @return The tooltip text.
+	 */
+	public static Text get(ItemStack stack, @Nullable PlayerEntity player, boolean advanced) {
+		NbtCompound nbt = stack.getNbt();
+		Key key = new Key(stack.getItem(), stack.getCount(), nbt, advanced);
+		Text text = CACHE.get(key);
+
+		if (text == null) {
+			TooltipContext context = advanced ? TooltipContext.Default.ADVANCED : TooltipContext.Default.NORMAL;
+			text = TextHelper.combine(stack.getTooltip(player, context), true);
+			// The stack's NBT can change after this, so the key keeps a copy.
+			CACHE.put(new Key(key.item, key.count, nbt == null ? null : nbt.copy(), advanced), text);
+		}
+
+		return text;
+	}
+
+	public static void clear() {
+		CACHE.clear();
+	}
+
+	private record Key(Item item, int count, @Nullable NbtCompound nbt, boolean advanced) {}
+}
@@ -0,0 +1,100 @@
+package io.github.redstoneparadox.oaktree.control;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that laying out a tree that has already been
+ * laid out once doesn't allocate, using the bytes the
+ * JVM reports as allocated by the test thread.
+ */
+class LayoutAllocationTest {
+	private static final int SCREEN_WIDTH = 1920;
+	private static final int SCREEN_HEIGHT = 1080;
+	private static final int GROUPS = 64;
+	private static final int FRAMES = 2000;
+	// Reading the allocated bytes allocates a little itself, so this isn't 0.
+	private static final long MAX_BYTES_PER_FRAME = 8;
+
+	private RootPanelControl root;
+	private final List<Control> leaves = new ArrayList<>();
+
+	@BeforeEach
+	void setup() {
+		root = new RootPanelControl();
+		root.setExpand(true);
+		leaves.clear();
+
+		for (int group = 0; group < GROUPS; group++) {
+			PanelControl panel = new PanelControl();
+			panel.setOffset((group % 24) * 80, (group / 24) * 80);
+			panel.setSize(80, 80);
+			root.addChild(panel);
+
+			for (int i = 0; i < 16; i++) {
+				Control leaf = new Control();
+				leaf.setOffset((i % 4) * 20, (i / 4) * 20);
+				leaf.setSize(18, 18);
+				panel.addChild(leaf);
+				leaves.add(leaf);
+			}
+		}
+	}
+
+	@Test
+	void unchangedFramesDoNotAllocate() {
+		Runnable frame = () -> root.update(-1, -1, 0.0f, SCREEN_WIDTH, SCREEN_HEIGHT);
+
+		assertSteadyStateAllocation(frame);
+	}
+
+	@Test
+	void relayingOutALeafDoesNotAllocate() {
+		int[] next = {0};
+		Runnable frame = () -> {
+			leaves.get(next[0]).markDirty();
+			next[0] = (next[0] + 1) % leaves.size();
+			root.update(-1, -1, 0.0f, SCREEN_WIDTH, SCREEN_HEIGHT);
+		};
+
+		assertSteadyStateAllocation(frame);
+	}
+
+	@Test
+	void relayingOutTheTreeDoesNotAllocate() {
+		Runnable frame = () -> {
+			root.markDirty();
+			root.update(-1, -1, 0.0f, SCREEN_WIDTH, SCREEN_HEIGHT);
+		};
+
+		assertSteadyStateAllocation(frame);
+	}
+
+	private static void assertSteadyStateAllocation(Runnable frame) {
+		assumeTrue(allocatedBytes() >= 0, "The JVM doesn't track allocations per thread.");
+
+		// Fills the pools and lets the JIT settle first.
+		for (int i = 0; i < FRAMES; i++) frame.run();
+
+		long start = allocatedBytes();
+		for (int i = 0; i < FRAMES; i++) frame.run();
+		long bytes = allocatedBytes() - start;
+
+		assertTrue(bytes <= MAX_BYTES_PER_FRAME * FRAMES, "Allocated " + bytes + " bytes over " + FRAMES + " frames.");
+	}
+
+	private static long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+			return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+
+		return -1;
+	}
+}